@@ -0,0 +1,72 @@
+/*
+ * DistanceFieldBenchmark.java
+ *
+ * @author: Owen Mathay
+ * 
+ */
+
+package pathfinder;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+
+/*
+ * The DistanceFieldBenchmark class times flooding a DistanceField out 
+ * from the bottom right node of a maze generated once per trial, on one
+ * thread against level by level on a ForkJoinPool of each given size. 
+ * Perfect mazes keep narrow frontiers, so an open room with no inner 
+ * walls is flooded too, as the widest case.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+@State(Scope.Benchmark)
+public class DistanceFieldBenchmark {
+
+	@Param({"500", "1000", "2000", "4000"})
+	public int size;
+
+	@Param({"1", "2", "4", "8"})
+	public int threads;
+
+	@Param({"true", "false"})
+	public boolean perfect;
+
+	ForkJoinPool pool;
+	CompactMaze maze;
+
+	/* Effect: generates the maze and starts the threads shared by every run. */
+	@Setup(Level.Trial)
+	public void startPool() {
+		this.pool = new ForkJoinPool(this.threads);
+		if (this.perfect) {
+			this.maze = new MazeId(this.size, this.size, 25).generate();
+		} else {
+			this.maze = new CompactMaze(this.size, this.size);
+			Arrays.fill(this.maze.cells, (byte) 0);
+		}
+	}
+
+	/* Effect: stops the threads. */
+	@TearDown(Level.Trial)
+	public void stopPool() {
+		this.pool.shutdown();
+	}
+
+	/* BFS from the target on one thread. */
+	@Benchmark
+	public DistanceField sequential() {
+		return new DistanceField(this.maze, this.size * this.size - 1);
+	}
+
+	/* BFS from the target, each level split across the pool. */
+	@Benchmark
+	public DistanceField parallel() {
+		return new DistanceField(this.maze, this.size * this.size - 1, this.pool);
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * GenerationBenchmark.java
+ *
+ * @author: Owen Mathay
+ * 
+ */
+
+package pathfinder;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+
+/*
+ * The GenerationBenchmark class times building a maze: constructing the
+ * Board with its Nodes and weighted, sorted Edges (fixBoard), and then
+ * running Kruskal's method to completion, against streaming a maze of
+ * the same size row by row with Eller's method. Every maze is built from
+ * a seeded Random, so a given size and seed always measure the same maze.
+ * Compact mazes are also generated from a MazeId, which draws from a
+ * SplittableRandom instead, to compare the two generators.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+@State(Scope.Benchmark)
+public class GenerationBenchmark {
+
+	@Param({"10", "100", "500", "1000", "2000"})
+	public int size;
+
+	@Param({"25", "1013"})
+	public long seed;
+
+	/*
+	 * The Ungenerated class holds a freshly constructed board, rebuilt
+	 * outside the timed region before every generation run.
+	 */
+	@State(Scope.Thread)
+	public static class Ungenerated {
+		Board board;
+
+		/* Effect: builds a fresh board of the benchmark's size and seed. */
+		@Setup(Level.Invocation)
+		public void newBoard(GenerationBenchmark params) {
+			this.board = new Board(params.size, params.size, new Random(params.seed));
+		}
+	}
+
+	/* Board construction, including fixBoard. */
+	@Benchmark
+	public Board construct() {
+		return new Board(this.size, this.size, new Random(this.seed));
+	}
+
+	/* Kruskal's method over an already constructed board. */
+	@Benchmark
+	public Board generate(Ungenerated fresh) {
+		fresh.board.generate();
+		return fresh.board;
+	}
+
+	/* Eller's method, streaming each row into a compact maze. */
+	@Benchmark
+	public CompactMaze eller() {
+		CompactMaze maze = new CompactMaze(this.size, this.size);
+		new EllerGenerator(this.size, new Random(this.seed)).generate(this.size, maze);
+		return maze;
+	}
+
+	/* Kruskal's method over a compact maze, from a seeded Random. */
+	@Benchmark
+	public CompactMaze compact() {
+		return new CompactMaze(this.size, this.size, new Random(this.seed));
+	}
+
+	/* Kruskal's method over a compact maze, from a MazeId. */
+	@Benchmark
+	public CompactMaze seeded() {
+		return new CompactMaze(new MazeId(this.size, this.size, this.seed));
+	}
+}
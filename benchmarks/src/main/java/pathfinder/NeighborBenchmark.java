@@ -0,0 +1,78 @@
+/*
+ * NeighborBenchmark.java
+ *
+ * @author: Owen Mathay
+ * 
+ */
+
+package pathfinder;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+
+/*
+ * The NeighborBenchmark class times neighbor queries, the inner step of
+ * every search: by position through the board's wall index, by Node 
+ * into a reused buffer as the player and MazeWorld searches do, and by 
+ * Node through the list-building getAllNeighborsPlayer for comparison.
+ * Each operation queries every node of the maze once.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+@State(Scope.Benchmark)
+public class NeighborBenchmark {
+
+	@Param({"10", "100", "500", "1000", "2000"})
+	public int size;
+
+	@Param({"25", "1013"})
+	public long seed;
+
+	Board board;
+	int[] neighbors;
+	Node[] nodes;
+
+	/* Effect: generates the maze to query. */
+	@Setup(Level.Trial)
+	public void generate() {
+		this.board = new Board(this.size, this.size, new Random(this.seed));
+		this.board.generate();
+		this.neighbors = new int[4];
+		this.nodes = new Node[4];
+	}
+
+	/* Neighbors of every position, through the wall index. */
+	@Benchmark
+	public int byPosition() {
+		int total = 0;
+		for (int cell = 0; cell < this.size * this.size; cell ++) {
+			total += this.board.neighbors(cell, this.neighbors);
+		}
+		return total;
+	}
+
+	/* Neighbors of every node, through the Node objects into one buffer. */
+	@Benchmark
+	public int byNodeBuffer() {
+		int total = 0;
+		for (int cell = 0; cell < this.size * this.size; cell ++) {
+			total += this.board.get(cell).neighborsPlayer(this.board.walls, this.nodes);
+		}
+		return total;
+	}
+
+	/* Neighbors of every node, through the Node objects as new lists. */
+	@Benchmark
+	public int byNode() {
+		int total = 0;
+		for (int cell = 0; cell < this.size * this.size; cell ++) {
+			total += this.board.get(cell).getAllNeighborsPlayer(this.board.walls).size();
+		}
+		return total;
+	}
+}
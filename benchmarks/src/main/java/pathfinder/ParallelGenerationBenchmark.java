@@ -0,0 +1,63 @@
+/*
+ * ParallelGenerationBenchmark.java
+ *
+ * @author: Owen Mathay
+ * 
+ */
+
+package pathfinder;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+
+/*
+ * The ParallelGenerationBenchmark class times generating a CompactMaze
+ * with Kruskal's method on one thread, against Boruvka's method on a
+ * ForkJoinPool of each given size. Both build the same maze from the 
+ * same seed, so the only difference is how the work is shared.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+@State(Scope.Benchmark)
+public class ParallelGenerationBenchmark {
+
+	@Param({"500", "1000", "2000", "4000"})
+	public int size;
+
+	@Param({"1", "2", "4", "8"})
+	public int threads;
+
+	ForkJoinPool pool;
+
+	/* Effect: starts the threads shared by every run. */
+	@Setup(Level.Trial)
+	public void startPool() {
+		this.pool = new ForkJoinPool(this.threads);
+	}
+
+	/* Effect: stops the threads. */
+	@TearDown(Level.Trial)
+	public void stopPool() {
+		this.pool.shutdown();
+	}
+
+	/* Kruskal's method, sorting every wall on one thread. */
+	@Benchmark
+	public CompactMaze kruskal() {
+		return new CompactMaze(this.size, this.size, new Random(25));
+	}
+
+	/* Boruvka's method across the pool. */
+	@Benchmark
+	public CompactMaze boruvka() {
+		CompactMaze maze = new CompactMaze(this.size, this.size);
+		maze.generateParallel(new Random(25), this.pool);
+		return maze;
+	}
+}
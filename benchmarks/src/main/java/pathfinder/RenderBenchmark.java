@@ -0,0 +1,67 @@
+/*
+ * RenderBenchmark.java
+ *
+ * @author: Owen Mathay
+ * 
+ */
+
+package pathfinder;
+
+import java.util.concurrent.TimeUnit;
+import javalib.impworld.*;
+import org.openjdk.jmh.annotations.*;
+
+
+/*
+ * The RenderBenchmark class times MazeWorld.makeScene, called once per
+ * frame, on a fully generated maze that is partway through a BFS: both
+ * drawing the whole maze, and a typical frame in which one tick's worth
+ * of cells changed. It needs javalib.jar on the classpath alongside 
+ * benchmarks.jar. Sizes stop at 500, past which nodes are smaller than
+ * a pixel in the window.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+@State(Scope.Benchmark)
+public class RenderBenchmark {
+
+	@Param({"10", "100", "500"})
+	public int size;
+
+	MazeWorld world;
+	int nextCell;
+
+	/* Effect: generates the maze and runs a BFS halfway to the target. */
+	@Setup(Level.Trial)
+	public void generate() {
+		this.world = new MazeWorld(this.size, this.size, true);
+		while (this.world.isInitializing) {
+			this.world.onTick();
+		}
+		this.world.onKeyEvent("b");
+		for (int i = 0; i < 60 && this.world.isSearching; i ++) {
+			this.world.onTick();
+		}
+	}
+
+	/* One frame drawing the whole maze, as after a new maze or search. */
+	@Benchmark
+	public WorldScene fullFrame() {
+		this.world.redrawAll = true;
+		return this.world.makeScene();
+	}
+
+	/* One frame after a tick, which changes about as many cells as it takes steps. */
+	@Benchmark
+	public WorldScene changedFrame() {
+		int cells = this.size * this.size;
+		for (int i = 0; i < this.world.updatesPerTick; i ++) {
+			this.world.dirty.set(this.nextCell);
+			this.nextCell = (this.nextCell + 7919) % cells;
+		}
+		return this.world.makeScene();
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * SharedSolveBenchmark.java
+ *
+ * @author: Owen Mathay
+ * 
+ */
+
+package pathfinder;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+
+/*
+ * The SharedSolveBenchmark class times a batch of solves between random
+ * pairs of nodes on one maze, generated once per trial and shared by a 
+ * ForkJoinPool of each given size. Each thread searches with state of 
+ * its own, so the time per batch should fall in step with the threads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+@State(Scope.Benchmark)
+public class SharedSolveBenchmark {
+
+	@Param({"500", "1000", "2000"})
+	public int size;
+
+	@Param({"1", "2", "4", "8"})
+	public int threads;
+
+	@Param({"BREADTH_FIRST", "A_STAR", "BIDIRECTIONAL_BFS"})
+	public String algorithm;
+
+	ForkJoinPool pool;
+	SharedSolver solver;
+	SearchType search;
+	int[] starts;
+	int[] goals;
+
+	/* Effect: generates the maze, the pairs to solve and the threads. */
+	@Setup(Level.Trial)
+	public void generate() {
+		Board board = new Board(new MazeId(this.size, this.size, 25));
+		board.generate();
+		this.solver = new SharedSolver(board);
+		this.search = SearchType.valueOf(this.algorithm);
+		this.pool = new ForkJoinPool(this.threads);
+		Random rand = new Random(25);
+		this.starts = new int[64];
+		this.goals = new int[64];
+		for (int i = 0; i < this.starts.length; i ++) {
+			this.starts[i] = rand.nextInt(this.size * this.size);
+			this.goals[i] = rand.nextInt(this.size * this.size);
+		}
+	}
+
+	/* Effect: stops the threads. */
+	@TearDown(Level.Trial)
+	public void stopPool() {
+		this.pool.shutdown();
+	}
+
+	/* Every pair of the batch, spread across the pool. */
+	@Benchmark
+	public SearchResult[] solveAll() {
+		return this.solver.solveAll(this.starts, this.goals, this.search, this.pool);
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * SolutionCacheBenchmark.java
+ *
+ * @author: Owen Mathay
+ * 
+ */
+
+package pathfinder;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+
+/*
+ * The SolutionCacheBenchmark class times answering repeated requests on
+ * one generated Board: by searching every time, from a SolutionCache
+ * holding the very paths asked for, and from one holding only longer
+ * paths that pass through the ends asked for. Requests cycle through a
+ * fixed list of random pairs, so every run asks the same questions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class SolutionCacheBenchmark {
+
+	@Param({"100", "500", "1000"})
+	public int size;
+
+	@Param({"A_STAR"})
+	public String algorithm;
+
+	SearchType search;
+	MazeSolver solver;
+	SolutionCache whole;
+	SolutionCache within;
+	int[] pairs;
+	int[] inner;
+	int next;
+
+	/* Effect: generates the board, the pairs to ask for and both caches. */
+	@Setup(Level.Trial)
+	public void generate() {
+		Board board = new Board(new MazeId(this.size, this.size, 25));
+		board.generate();
+		this.search = SearchType.valueOf(this.algorithm);
+		this.solver = new MazeSolver(board);
+		long budget = 64L * this.size * this.size;
+		this.whole = new SolutionCache(this.size, this.size, budget);
+		this.within = new SolutionCache(this.size, this.size, budget);
+		Random rand = new Random(25);
+		this.pairs = new int[2 * 64];
+		this.inner = new int[2 * 64];
+		for (int i = 0; i < this.pairs.length; i += 2) {
+			this.pairs[i] = rand.nextInt(this.size * this.size);
+			this.pairs[i + 1] = rand.nextInt(this.size * this.size);
+			int[] path = this.solver.solve(this.pairs[i], this.pairs[i + 1], this.search).path;
+			this.whole.store(path);
+			this.within.store(path);
+			this.inner[i] = path[path.length / 4];
+			this.inner[i + 1] = path[3 * path.length / 4];
+		}
+		this.next = 0;
+	}
+
+	/* Searching for the next pair, as if nothing were cached. */
+	@Benchmark
+	public SearchResult search() {
+		int i = this.next;
+		this.next = (i + 2) & (this.pairs.length - 1);
+		return this.solver.solve(this.pairs[i], this.pairs[i + 1], this.search);
+	}
+
+	/* The next pair, stored as asked for. */
+	@Benchmark
+	public SearchResult cached() {
+		int i = this.next;
+		this.next = (i + 2) & (this.pairs.length - 1);
+		return this.whole.solve(this.solver, this.pairs[i], this.pairs[i + 1], this.search);
+	}
+
+	/* The middle half of the next pair's path, found inside a stored path. */
+	@Benchmark
+	public SearchResult subPath() {
+		int i = this.next;
+		this.next = (i + 2) & (this.inner.length - 1);
+		return this.within.solve(this.solver, this.inner[i], this.inner[i + 1], this.search);
+	}
+}
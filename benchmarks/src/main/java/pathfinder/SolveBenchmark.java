@@ -0,0 +1,55 @@
+/*
+ * SolveBenchmark.java
+ *
+ * @author: Owen Mathay
+ * 
+ */
+
+package pathfinder;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+
+/*
+ * The SolveBenchmark class times one headless MazeSolver search from the
+ * top left corner to the bottom right, the same run MazeWorld animates,
+ * on a maze generated once per trial from the given size and seed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+@State(Scope.Benchmark)
+public class SolveBenchmark {
+
+	@Param({"10", "100", "500", "1000", "2000"})
+	public int size;
+
+	@Param({"25", "1013"})
+	public long seed;
+
+	@Param({"DEPTH_FIRST", "BREADTH_FIRST", "A_STAR", "BIDIRECTIONAL_BFS", "BIDIRECTIONAL_A_STAR"})
+	public String algorithm;
+
+	SearchType search;
+	Board board;
+	MazeSolver solver;
+
+	/* Effect: generates the maze and a solver for it. */
+	@Setup(Level.Trial)
+	public void generate() {
+		this.board = new Board(this.size, this.size, new Random(this.seed));
+		this.board.generate();
+		this.solver = new MazeSolver(this.board);
+		this.search = SearchType.valueOf(this.algorithm);
+	}
+
+	/* One full search from origin to destination. */
+	@Benchmark
+	public SearchResult solve() {
+		return this.solver.solve(0, this.size * this.size - 1, this.search);
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * TreeBenchmark.java
+ *
+ * @author: Owen Mathay
+ * 
+ */
+
+package pathfinder;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+
+/*
+ * The TreeBenchmark class times building a MazeTree index over a maze
+ * generated once per trial, and then answering point-to-point queries 
+ * from it: the length of the path between two nodes, and the path itself.
+ * Queries cycle through a fixed list of random pairs, so every run asks 
+ * the same questions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+@State(Scope.Benchmark)
+public class TreeBenchmark {
+
+	@Param({"100", "500", "1000", "2000"})
+	public int size;
+
+	@Param({"25", "1013"})
+	public long seed;
+
+	CompactMaze maze;
+	MazeTree tree;
+	int[] pairs;
+	int next;
+
+	/* Effect: generates the maze, its index and the pairs to query. */
+	@Setup(Level.Trial)
+	public void generate() {
+		this.maze = new MazeId(this.size, this.size, this.seed).generate();
+		this.tree = new MazeTree(this.maze);
+		Random rand = new Random(this.seed);
+		this.pairs = new int[2 * 4096];
+		for (int i = 0; i < this.pairs.length; i ++) {
+			this.pairs[i] = rand.nextInt(this.size * this.size);
+		}
+		this.next = 0;
+	}
+
+	/* Building the index over the whole maze. */
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public MazeTree build() {
+		return new MazeTree(this.maze);
+	}
+
+	/* Length of the path between the next pair of nodes. */
+	@Benchmark
+	public int distance() {
+		int i = this.next;
+		this.next = (i + 2) & (this.pairs.length - 1);
+		return this.tree.distance(this.pairs[i], this.pairs[i + 1]);
+	}
+
+	/* The path between the next pair of nodes. */
+	@Benchmark
+	public int[] path() {
+		int i = this.next;
+		this.next = (i + 2) & (this.pairs.length - 1);
+		return this.tree.path(this.pairs[i], this.pairs[i + 1]);
+	}
+}
@@ -0,0 +1,5040 @@
+/*
+ * Pathfinder.java
+ * Originally Mazes.java
+ *
+ * @author: Owen Mathay
+ * 
+ */
+
+package pathfinder;
+
+import java.io.*;
+import java.lang.management.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.random.*;
+
+
+/*
+ * The interface IGameConstants provides values for use in defining 
+ * the maze and display window. This structure also allows users to
+ * safely manipulate these variables.
+ */
+interface IGameConstants {
+	int WINDOW_W = 1000;
+	int WINDOW_H = 750;
+}
+
+/*
+ * The interface IGamePiece defines methods for any piece which is an
+ * option for connections within the maze game.
+ */
+interface IGamePiece {
+
+	/* Is this IGamePiece in the same set as given other? */
+	boolean sameCode(IGamePiece other);
+
+	/* Helper for determining the set compatibility */
+	boolean sameCodeHelper(Node node);
+
+	/* Effect: to update the set of this IGamePiece to match other */
+	void updateSet(IGamePiece other);
+
+	/* Effect: helper for updating the set codes */
+	void updateSetHelper(Node n);
+
+	/* Effect: updates the set codes of all nodes in the set */
+	void updateNeighborCode(int to, int from);
+
+	/* Is this IGamePiece in the same disjoint set as given other? */
+	boolean sameSet(IGamePiece other, DisjointSet sets);
+
+	/* Helper for determining the disjoint set compatibility */
+	boolean sameSetHelper(Node node, DisjointSet sets);
+
+	/* Effect: joins the disjoint sets of this IGamePiece and given other */
+	void unionSet(IGamePiece other, DisjointSet sets);
+
+	/* Effect: helper for joining the disjoint sets */
+	void unionSetHelper(Node node, DisjointSet sets);
+
+	/* Should this IGamePiece be drawn with high priority? */
+	boolean overridesDraw();
+
+	/* Helper method for getting the unvisited neighbors of a given Node n. */
+	ArrayList<Node> getNeighborsHelper(Node n, ArrayList<Edge> edge);
+
+	/* Helper method for getting all neighbors of a given Node n. */
+	ArrayList<Node> getNeighborsHelperPlayer(Node node, ArrayList<Edge> edges);
+
+	/* Helper method for getting the unvisited neighbors of a given Node n. */
+	ArrayList<Node> getNeighborsHelper(Node n, WallIndex walls);
+
+	/* Helper method for getting all neighbors of a given Node n. */
+	ArrayList<Node> getNeighborsHelperPlayer(Node node, WallIndex walls);
+
+	/* Helper for writing the unvisited neighbors of a given Node n into a buffer. */
+	int neighborsHelper(Node n, WallIndex walls, Node[] out, int count);
+
+	/* Helper for writing all neighbors of a given Node n into a buffer. */
+	int neighborsHelperPlayer(Node n, WallIndex walls, Node[] out, int count);
+
+	/* Helper for checking that a given Node n can step onto this IGamePiece. */
+	boolean opensToHelper(Node n, WallIndex walls);
+
+	/* Effect: adds the position of this IGamePiece on given board to the cells */
+	void markCell(Board b, BitSet cells);
+
+	/* Effect: takes down the wall between this IGamePiece and given other */
+	void removeWall(IGamePiece other, WallIndex walls);
+
+	/* Effect: helper for taking down the wall */
+	void removeWallHelper(Node node, WallIndex walls);
+}
+
+/*
+ * The Barrier class, an instance of which serves as a placeholder
+ * where a Node object would have no neighbor. There are no 
+ * fields, so the constructor is implicit.
+ */
+class Barrier implements IGamePiece {
+
+	/* Barrier has no state, so every node's border can share this one. */
+	static final Barrier BORDER = new Barrier();
+
+	/* Is this Barrier object in the same set as given other? */
+	public boolean sameCode(IGamePiece other) {
+		return false; // ALWAYS FALSE: Barrier has no setCode
+	}
+
+	/* Helper for determining the set compatibility */
+	public boolean sameCodeHelper(Node node) {
+		return false; // ALWAYS FALSE: Barrier has no setCode
+	}
+
+	/* Effect: to update the set of this Barrier to match given other */
+	public void updateSet(IGamePiece other) {
+		// no effect	
+	}
+
+	/* Effect: helper for updating the set codes */
+	public void updateSetHelper(Node n) {
+		// no effect
+	}
+
+	/* Effect: updates the set codes of all nodes in the set */
+	public void updateNeighborCode(int to, int from) {
+		// no effect
+	}
+
+	/* Is this Barrier in the same disjoint set as given other? */
+	public boolean sameSet(IGamePiece other, DisjointSet sets) {
+		return false; // ALWAYS FALSE: Barrier belongs to no set
+	}
+
+	/* Helper for determining the disjoint set compatibility */
+	public boolean sameSetHelper(Node node, DisjointSet sets) {
+		return false; // ALWAYS FALSE: Barrier belongs to no set
+	}
+
+	/* Effect: joins the disjoint sets of this Barrier and given other */
+	public void unionSet(IGamePiece other, DisjointSet sets) {
+		// no effect
+	}
+
+	/* Effect: helper for joining the disjoint sets */
+	public void unionSetHelper(Node node, DisjointSet sets) {
+		// no effect
+	}
+
+	/* Should this Barrier be drawn with high priority? */
+	public boolean overridesDraw() {
+		return true; // ALWAYS TRUE: Necessary for drawing Maze border
+	}
+
+	/* Helper method for getting the unvisited neighbors of a given Node n. */
+	public ArrayList<Node> getNeighborsHelper(Node n, ArrayList<Edge> edge) {
+		return new ArrayList<Node>();
+	}
+
+	/* Helper method for getting all neighbors of a given Node n. */
+	public ArrayList<Node> getNeighborsHelperPlayer(Node node, ArrayList<Edge> edges) {
+		return new ArrayList<Node>();
+	}
+
+	/* Helper method for getting the unvisited neighbors of a given Node n. */
+	public ArrayList<Node> getNeighborsHelper(Node n, WallIndex walls) {
+		return new ArrayList<Node>();
+	}
+
+	/* Helper method for getting all neighbors of a given Node n. */
+	public ArrayList<Node> getNeighborsHelperPlayer(Node node, WallIndex walls) {
+		return new ArrayList<Node>();
+	}
+
+	/* Helper for writing the unvisited neighbors of a given Node n into a buffer. */
+	public int neighborsHelper(Node n, WallIndex walls, Node[] out, int count) {
+		return count; // nothing to write: Barrier is never a neighbor
+	}
+
+	/* Helper for writing all neighbors of a given Node n into a buffer. */
+	public int neighborsHelperPlayer(Node n, WallIndex walls, Node[] out, int count) {
+		return count; // nothing to write: Barrier is never a neighbor
+	}
+
+	/* Helper for checking that a given Node n can step onto this Barrier. */
+	public boolean opensToHelper(Node n, WallIndex walls) {
+		return false; // ALWAYS FALSE: the maze border always stands
+	}
+
+	/* Effect: adds the position of this Barrier on given board to the cells */
+	public void markCell(Board b, BitSet cells) {
+		// no effect: Barrier has no position
+	}
+
+	/* Effect: takes down the wall between this Barrier and given other */
+	public void removeWall(IGamePiece other, WallIndex walls) {
+		// no effect: the maze border always stands
+	}
+
+	/* Effect: helper for taking down the wall */
+	public void removeWallHelper(Node node, WallIndex walls) {
+		// no effect: the maze border always stands
+	}
+}
+
+/*
+ * The Node class, an instance of which represents a single cell
+ * of the Maze game. An instance can either be customized, or the 
+ * fields will be determined within the convenience constructor.
+ */
+class Node implements IGamePiece {
+
+	int x;
+	int y;
+	int code;
+
+	int g_cost;
+	int h_cost;
+
+	boolean visited;
+	IGamePiece left;
+	IGamePiece right;
+	IGamePiece top;
+	IGamePiece bottom;
+	Node repNode;
+	boolean playerIn;
+
+	/*
+	 * Full constructor for Node objects.
+	 * 
+	 * @param x: x-coordinate of this node in the maze
+	 * @param y: y-coordinate of this node in the maze
+	 * (In logical coordinates, with origin at top left corner)
+	 * 
+	 * @param code: first set-identifier code of this node
+	 * @param visited: has this node been seen?
+	 * @param left: left neighbor of this node
+	 * @param right: right neighbor of this node
+	 * @param top: top neighbor of this node
+	 * @param bottom: neighbor of this node
+	 */
+	Node(int x, int y, int code, boolean visited, 
+	     IGamePiece left, IGamePiece right, IGamePiece top, IGamePiece bottom) {
+		this.x = x;
+		this.y = y;
+		this.code = code;
+		this.visited = visited;
+		this.left = left;
+		this.right = right;
+		this.top = top;
+		this.bottom = bottom;
+	}
+
+	/* Convenience constructor, for general use. */
+	Node(int x, int y, int code) {
+		this(x, y, code, false, Barrier.BORDER, Barrier.BORDER, Barrier.BORDER, Barrier.BORDER);
+	}
+
+	/* Constructor for the player's node. */
+	Node(int x, int y, Board b) {
+		this.x = x;
+		this.y = y;
+		this.repNode = b.get(0, 0);
+		this.playerIn = true;
+	}
+
+	/*
+	 * Checks if this node is from the same set as given other.
+	 * 
+	 * @param other: other IGamePiece to compare codes with
+	 * @return: calls sameCodeHelper on other
+	 */
+	public boolean sameCode(IGamePiece other) {
+		return other.sameCodeHelper(this);
+	}
+
+	/*
+	 * Helper for sameCode():
+	 * Compares own code with given other's code.
+	 * 
+	 * @param other: node to compare codes with
+	 * @return: whether the codes match or not
+	 */
+	public boolean sameCodeHelper(Node other) {
+		return this.code == other.code;
+	}
+
+	/*
+	 * Updates code of given other to match this node.
+	 * 
+	 * @param other: other IGamePiece to update code for
+	 */
+	public void updateSet(IGamePiece other) {
+		other.updateSetHelper(this);
+	}
+
+	/*
+	 * Helper for updateSet():
+	 * Updates the code of given node to match this.
+	 * 
+	 * @param node: node to be updated
+	 */
+	public void updateSetHelper(Node node) {
+		node.updateNeighborCode(node.code, this.code);
+	}
+
+	/*
+	 * Updates the set code of all nodes in the same set.
+	 * 
+	 * @param from: code to compare node sets for valid code updates
+	 * @param to: code to update all nodes of this set to
+	 */
+	public void updateNeighborCode(int from, int to) {
+		if (this.code != from) {
+			return;
+		}
+		this.code = to;
+		this.left.updateNeighborCode(from, to);
+		this.right.updateNeighborCode(from, to);
+		this.top.updateNeighborCode(from, to);
+		this.bottom.updateNeighborCode(from, to);
+	}
+
+	/*
+	 * Checks if this node is in the same disjoint set as given other.
+	 * 
+	 * @param other: other IGamePiece to compare sets with
+	 * @param sets: disjoint sets of the maze, keyed by node code
+	 * @return: calls sameSetHelper on other
+	 */
+	public boolean sameSet(IGamePiece other, DisjointSet sets) {
+		return other.sameSetHelper(this, sets);
+	}
+
+	/*
+	 * Helper for sameSet():
+	 * Compares own set representative with given other's.
+	 * 
+	 * @param other: node to compare sets with
+	 * @param sets: disjoint sets of the maze, keyed by node code
+	 * @return: whether the representatives match or not
+	 */
+	public boolean sameSetHelper(Node other, DisjointSet sets) {
+		return sets.find(this.code) == sets.find(other.code);
+	}
+
+	/*
+	 * Joins the disjoint set of this node with that of given other.
+	 * 
+	 * @param other: other IGamePiece to join sets with
+	 * @param sets: disjoint sets of the maze, keyed by node code
+	 */
+	public void unionSet(IGamePiece other, DisjointSet sets) {
+		other.unionSetHelper(this, sets);
+	}
+
+	/*
+	 * Helper for unionSet():
+	 * Joins the set of given node with the set of this.
+	 * 
+	 * @param node: node whose set is joined
+	 * @param sets: disjoint sets of the maze, keyed by node code
+	 */
+	public void unionSetHelper(Node node, DisjointSet sets) {
+		sets.union(node.code, this.code);
+	}
+
+	/*
+	 * Checks if this node should be drawn with priority.
+	 * 
+	 * @return: Always false.
+	 */
+	public boolean overridesDraw() {
+		return false;
+	}
+
+	/*
+	 * Collects valid neighbors of this node.
+	 * 
+	 * @param edges: all valid walls within the maze board
+	 * @return: any valid neighbors of this node
+	 */
+	public ArrayList<Node> getAllNeighbors(ArrayList<Edge> edges) {
+
+		ArrayList<Node> neighbors = new ArrayList<Node>();
+		neighbors.addAll(this.left.getNeighborsHelper(this, edges));
+		neighbors.addAll(this.right.getNeighborsHelper(this, edges));
+		neighbors.addAll(this.top.getNeighborsHelper(this, edges));
+		neighbors.addAll(this.bottom.getNeighborsHelper(this, edges));
+
+		return neighbors;
+	}
+
+	/*
+	 * Helper for getAllNeighbors():
+	 * Confirms that the neighbor nodes are not separated by a valid wall.
+	 * 
+	 * @param n: node to confirm connections with this node
+	 * @param edges: all valid walls within the maze board
+	 * @return: any valid neighbors of this node
+	 */
+	public ArrayList<Node> getNeighborsHelper(Node n, ArrayList<Edge> edges) {
+		ArrayList<Node> neighbors = new ArrayList<Node>();
+		for (Edge e: edges) {
+			if (e.connectsNodes(this, n)) {
+				return neighbors;
+			}
+		}
+		if (!this.visited) {
+			neighbors.add(this);
+		}
+		return neighbors;
+	}
+
+	/*
+	 * FOR USE IN USER CONTROL ONLY.
+	 * 
+	 * @param edges: all valid walls within the maze board
+	 * @return: any valid neighbors of this node
+	 */
+	public ArrayList<Node> getAllNeighborsPlayer(ArrayList<Edge> edges) {
+
+		ArrayList<Node> neighbors = new ArrayList<Node>();
+		neighbors.addAll(this.left.getNeighborsHelperPlayer(this, edges));
+		neighbors.addAll(this.right.getNeighborsHelperPlayer(this, edges));
+		neighbors.addAll(this.top.getNeighborsHelperPlayer(this, edges));
+		neighbors.addAll(this.bottom.getNeighborsHelperPlayer(this, edges));
+
+		return neighbors;
+	}
+
+	/*
+	 * FOR USE IN USER CONTROL ONLY - Disregards visited.
+	 * 
+	 * @param n: node to confirm connections with this node
+	 * @param edges: all valid walls within the maze board
+	 * @return: any valid neighbors of this node
+	 */
+	public ArrayList<Node> getNeighborsHelperPlayer(Node n, ArrayList<Edge> edges) {
+		ArrayList<Node> neighbors = new ArrayList<Node>();
+		for (Edge e: edges) {
+			if (e.connectsNodes(this, n)) {
+				return neighbors;
+			}
+		}
+		neighbors.add(this);
+		return neighbors;
+	}
+
+	/*
+	 * Collects valid neighbors of this node using the wall index.
+	 * 
+	 * @param walls: index of all standing walls within the maze board
+	 * @return: any valid neighbors of this node
+	 */
+	public ArrayList<Node> getAllNeighbors(WallIndex walls) {
+
+		ArrayList<Node> neighbors = new ArrayList<Node>();
+		neighbors.addAll(this.left.getNeighborsHelper(this, walls));
+		neighbors.addAll(this.right.getNeighborsHelper(this, walls));
+		neighbors.addAll(this.top.getNeighborsHelper(this, walls));
+		neighbors.addAll(this.bottom.getNeighborsHelper(this, walls));
+
+		return neighbors;
+	}
+
+	/*
+	 * Helper for getAllNeighbors():
+	 * Confirms that the neighbor nodes are not separated by a standing wall.
+	 * 
+	 * @param n: node to confirm connections with this node
+	 * @param walls: index of all standing walls within the maze board
+	 * @return: any valid neighbors of this node
+	 */
+	public ArrayList<Node> getNeighborsHelper(Node n, WallIndex walls) {
+		ArrayList<Node> neighbors = new ArrayList<Node>();
+		if (!this.visited && !walls.separates(this, n)) {
+			neighbors.add(this);
+		}
+		return neighbors;
+	}
+
+	/*
+	 * FOR USE IN USER CONTROL ONLY.
+	 * 
+	 * @param walls: index of all standing walls within the maze board
+	 * @return: any valid neighbors of this node
+	 */
+	public ArrayList<Node> getAllNeighborsPlayer(WallIndex walls) {
+
+		ArrayList<Node> neighbors = new ArrayList<Node>();
+		neighbors.addAll(this.left.getNeighborsHelperPlayer(this, walls));
+		neighbors.addAll(this.right.getNeighborsHelperPlayer(this, walls));
+		neighbors.addAll(this.top.getNeighborsHelperPlayer(this, walls));
+		neighbors.addAll(this.bottom.getNeighborsHelperPlayer(this, walls));
+
+		return neighbors;
+	}
+
+	/*
+	 * FOR USE IN USER CONTROL ONLY - Disregards visited.
+	 * 
+	 * @param n: node to confirm connections with this node
+	 * @param walls: index of all standing walls within the maze board
+	 * @return: any valid neighbors of this node
+	 */
+	public ArrayList<Node> getNeighborsHelperPlayer(Node n, WallIndex walls) {
+		ArrayList<Node> neighbors = new ArrayList<Node>();
+		if (!walls.separates(this, n)) {
+			neighbors.add(this);
+		}
+		return neighbors;
+	}
+
+	/*
+	 * Writes the unvisited neighbors of this node into the given buffer, 
+	 * in left, right, top, bottom order, without allocating. Searches 
+	 * reuse one buffer for every node they expand.
+	 * 
+	 * @param walls: index of all standing walls within the maze board
+	 * @param out: buffer of at least four entries to receive neighbors
+	 * @return: number of neighbors written to out
+	 */
+	public int neighbors(WallIndex walls, Node[] out) {
+		int count = this.left.neighborsHelper(this, walls, out, 0);
+		count = this.right.neighborsHelper(this, walls, out, count);
+		count = this.top.neighborsHelper(this, walls, out, count);
+		return this.bottom.neighborsHelper(this, walls, out, count);
+	}
+
+	/*
+	 * Helper for neighbors():
+	 * Writes this node after the given count if it is unvisited and 
+	 * not separated from n by a standing wall.
+	 * 
+	 * @param n: node to confirm connections with this node
+	 * @param walls: index of all standing walls within the maze board
+	 * @param out: buffer receiving the neighbors of n
+	 * @param count: number of neighbors already written to out
+	 * @return: the updated number of neighbors written to out
+	 */
+	public int neighborsHelper(Node n, WallIndex walls, Node[] out, int count) {
+		if (this.visited || walls.separates(this, n)) {
+			return count;
+		}
+		out[count] = this;
+		return count + 1;
+	}
+
+	/*
+	 * FOR USE IN USER CONTROL ONLY - Disregards visited.
+	 * 
+	 * @param walls: index of all standing walls within the maze board
+	 * @param out: buffer of at least four entries to receive neighbors
+	 * @return: number of neighbors written to out
+	 */
+	public int neighborsPlayer(WallIndex walls, Node[] out) {
+		int count = this.left.neighborsHelperPlayer(this, walls, out, 0);
+		count = this.right.neighborsHelperPlayer(this, walls, out, count);
+		count = this.top.neighborsHelperPlayer(this, walls, out, count);
+		return this.bottom.neighborsHelperPlayer(this, walls, out, count);
+	}
+
+	/*
+	 * FOR USE IN USER CONTROL ONLY - Disregards visited.
+	 * 
+	 * @param n: node to confirm connections with this node
+	 * @param walls: index of all standing walls within the maze board
+	 * @param out: buffer receiving the neighbors of n
+	 * @param count: number of neighbors already written to out
+	 * @return: the updated number of neighbors written to out
+	 */
+	public int neighborsHelperPlayer(Node n, WallIndex walls, Node[] out, int count) {
+		if (walls.separates(this, n)) {
+			return count;
+		}
+		out[count] = this;
+		return count + 1;
+	}
+
+	/*
+	 * Checks whether a single step leads from this node onto given other.
+	 * 
+	 * @param other: IGamePiece to step onto
+	 * @param walls: index of all standing walls within the maze board
+	 * @return: whether other is an adjacent node with no wall between
+	 */
+	public boolean opensTo(IGamePiece other, WallIndex walls) {
+		return other.opensToHelper(this, walls);
+	}
+
+	/*
+	 * Helper for opensTo():
+	 * 
+	 * @param n: node stepping onto this node
+	 * @param walls: index of all standing walls within the maze board
+	 * @return: whether n is adjacent to this node with no wall between
+	 */
+	public boolean opensToHelper(Node n, WallIndex walls) {
+		boolean adjacent = this == n.left || this == n.right || this == n.top || this == n.bottom;
+		return adjacent && !walls.separates(this, n);
+	}
+
+	/*
+	 * Adds the position of this node to the given cells.
+	 * 
+	 * @param b: board numbering the positions
+	 * @param cells: set of positions to add to
+	 */
+	public void markCell(Board b, BitSet cells) {
+		cells.set(b.index(this));
+	}
+
+	/*
+	 * Takes down the wall between this node and given other.
+	 * 
+	 * @param other: other IGamePiece on the far side of the wall
+	 * @param walls: index of all standing walls within the maze board
+	 */
+	public void removeWall(IGamePiece other, WallIndex walls) {
+		other.removeWallHelper(this, walls);
+	}
+
+	/*
+	 * Helper for removeWall():
+	 * Clears the wall between given node and this in the index.
+	 * 
+	 * @param node: node on the near side of the wall
+	 * @param walls: index of all standing walls within the maze board
+	 */
+	public void removeWallHelper(Node node, WallIndex walls) {
+		walls.remove(node, this);
+	}
+
+	/*
+	 * Checks if this node should have a right wall.
+	 * 
+	 * @param edges: all valid walls of the maze 
+	 * @return: whether  wall should be drawn or not
+	 */
+	public boolean doesDrawRight(ArrayList<Edge> edges) {
+		for (Edge e: edges) {
+			if (e.connectsNodes(this, this.right)) {
+				return true;
+			}
+			if (this.right instanceof Barrier) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/*
+	 * Checks if this node should have a wall below.
+	 * 
+	 * @param edges: all valid walls of the maze 
+	 * @return: whether wall should be drawn or not
+	 */	
+	public boolean doesDrawBottom(ArrayList<Edge> edges) {
+		for (Edge e: edges) {
+			if (e.connectsNodes(this, this.bottom)) {
+				return true;
+			}
+			if (this.bottom instanceof Barrier) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/*
+	 * Checks if this node should have a right wall using the wall index.
+	 * 
+	 * @param walls: index of all standing walls within the maze board
+	 * @return: whether wall should be drawn or not
+	 */
+	public boolean doesDrawRight(WallIndex walls) {
+		return this.right.overridesDraw() || walls.hasRightWall(this.x, this.y);
+	}
+
+	/*
+	 * Checks if this node should have a wall below using the wall index.
+	 * 
+	 * @param walls: index of all standing walls within the maze board
+	 * @return: whether wall should be drawn or not
+	 */
+	public boolean doesDrawBottom(WallIndex walls) {
+		return this.bottom.overridesDraw() || walls.hasBottomWall(this.x, this.y);
+	}
+
+	/*
+	 * Checks if this node should have a left wall.
+	 * 
+	 * @param edges: all valid walls of the maze 
+	 * @return: calls overridesDraw method of left neighbor
+	 */
+	public boolean doesDrawLeft(ArrayList<Edge> edges) {
+		return this.left.overridesDraw();
+	}
+
+	/*
+	 * Checks if this node should have a wall above.
+	 * 
+	 * @param edges: all valid walls of the maze 
+	 * @return: calls overridesDraw method of bottom neighbor
+	 */
+	public boolean doesDrawTop(ArrayList<Edge> edges) {
+		return this.top.overridesDraw();
+	}
+
+	/*
+	 * Connects this node with a right neighbor.
+	 * 
+	 * @param node: node to connect with on right
+	 */
+	public void updateRight(Node node) {
+		this.right = node;
+		// Also connects this node to given node as left neighbor
+		node.left = this; 
+	}
+
+	/*
+	 * Connects this node with a lower neighbor.
+	 * 
+	 * @param node: node to connect with on bottom
+	 */
+	public void updateBottom(Node node) {
+		this.bottom = node;
+		// Also connects this node to given node as upper neighbor
+		node.top = this;
+	}
+
+	/* Calculate the "F Cost" for A Star algorithm */
+	public int fCost() {
+		return this.g_cost + this.h_cost;
+	}
+
+	/*
+	 * Records the cost of the best path found to this node so far, 
+	 * along with the estimated cost of the rest of the way.
+	 * 
+	 * @param g: "G Cost", the cost of the path from the origin
+	 * @param target: node the search is heading for
+	 * @param heuristic: estimate used for the "H Cost"
+	 */
+	public void updateCosts(int g, Node target, IHeuristic heuristic) {
+		this.g_cost = g;
+		this.h_cost = heuristic.estimate(Math.abs(target.x - this.x), Math.abs(target.y - this.y));
+	}
+
+	/*
+	 * Verifies the validity of a user move.
+	 * 
+	 * @param target: Node to indicate desired move direction
+	 * @param b: board for the edges
+	 * @return: whether the move can be made or not
+	 */
+	public boolean isValidMove(IGamePiece target, Board b) {
+		return this.repNode.opensTo(target, b.walls);
+	}
+
+	/*
+	 * Moves the player icon to the target neighbor node.
+	 * 
+	 * @param xChange: amount to adjust node.x
+	 * @param yChange: amount to adjust node.y
+	 * @param b: maze to access other nodes
+	 */
+	public void adjustPos(int xChange, int yChange, Board b) {
+		this.x += xChange;
+		this.y += yChange;
+		this.repNode = b.get(this.x, this.y);
+		b.explored.add(b.get(this.x, this.y));
+		b.get(this.x, this.y).visited = true;
+	}
+
+
+	/* Restores this node's unvisited status and clears its search costs. */
+	void reset() {
+		this.visited = false;
+		this.g_cost = 0;
+		this.h_cost = 0;
+	}
+}
+
+/*
+ * The Edge class, an instance of which represents the connection
+ * between two Node objects, or as a wall separating them. Edges 
+ * as walls are removed from the Maze's board object according to 
+ * Kruskal's method, but remain as connections between Nodes.
+ */
+class Edge {
+	IGamePiece from;
+	IGamePiece to;
+	int weight;
+
+	/*
+	 * Constructor for Edge objects.
+	 * 
+	 * @param from: node to build edge from
+	 * @param to: node to build edge towards
+	 * @param weight: randomly generated for generation
+	 */
+	Edge(Node from, Node to, int weight) {
+		this.from = from;
+		this.to = to;
+		this.weight = weight;
+	}
+
+	/*
+	 * Checks if this Edge connects the given IGamePiece objects.
+	 * 
+	 * @param to: first node for comparison
+	 * @param from: second node for comparison
+	 * @return: whether this edge connects the given nodes
+	 */
+	public boolean connectsNodes(IGamePiece to, IGamePiece from) {
+		return (this.from.equals(to) && this.to.equals(from)) 
+				|| (this.from.equals(from) && this.to.equals(to));
+	}
+
+	/*
+	 * Checks if nodes connected by this Edge are in the same set.
+	 * 
+	 * @return: whether they share the same set
+	 */
+	public boolean sameCodeBothSides() {
+		return this.from.sameCode(this.to);
+	}
+
+	/* Joins the sets of the nodes connected by this edge into one. */
+	public void mergeSets() {
+		this.from.updateSet(this.to);
+	}
+
+	/*
+	 * Takes down the wall this Edge represents.
+	 * 
+	 * @param walls: index of all standing walls within the maze board
+	 */
+	public void removeWall(WallIndex walls) {
+		this.from.removeWall(this.to, walls);
+	}
+
+	/*
+	 * Adds the positions of the nodes on either side of this Edge 
+	 * to the given cells.
+	 * 
+	 * @param b: board numbering the positions
+	 * @param cells: set of positions to add to
+	 */
+	public void markCells(Board b, BitSet cells) {
+		this.from.markCell(b, cells);
+		this.to.markCell(b, cells);
+	}
+
+	/*
+	 * Checks if nodes connected by this Edge are in the same disjoint set.
+	 * 
+	 * @param sets: disjoint sets of the maze, keyed by node code
+	 * @return: whether they share the same set
+	 */
+	public boolean sameCodeBothSides(DisjointSet sets) {
+		return this.from.sameSet(this.to, sets);
+	}
+
+	/*
+	 * Joins the disjoint sets of the nodes connected by this edge into one.
+	 * 
+	 * @param sets: disjoint sets of the maze, keyed by node code
+	 */
+	public void mergeSets(DisjointSet sets) {
+		this.from.unionSet(this.to, sets);
+	}
+}
+
+
+/*
+ * The DisjointSet class, an instance of which tracks which nodes of the
+ * maze have already been joined during Kruskal's method. Sets are keyed 
+ * by node code and stored in primitive arrays, using path compression 
+ * and union by rank so that each operation is nearly constant time.
+ */
+class DisjointSet {
+	int[] parent;
+	int[] rank;
+
+	/*
+	 * Constructor for DisjointSet objects, each element in its own set.
+	 * 
+	 * @param size: number of elements, one per node in the maze
+	 */
+	DisjointSet(int size) {
+		this.parent = new int[size];
+		this.rank = new int[size];
+		for (int i = 0; i < size; i ++) {
+			this.parent[i] = i;
+		}
+	}
+
+	/*
+	 * Finds the representative of the set containing given element,
+	 * pointing every element along the way directly at it.
+	 * 
+	 * @param i: element to look up
+	 * @return: representative element of the set
+	 */
+	public int find(int i) {
+		int root = i;
+		while (this.parent[root] != root) {
+			root = this.parent[root];
+		}
+		while (this.parent[i] != root) {
+			int next = this.parent[i];
+			this.parent[i] = root;
+			i = next;
+		}
+		return root;
+	}
+
+	/*
+	 * Joins the sets containing the given elements, attaching the 
+	 * shallower tree beneath the deeper one.
+	 * 
+	 * @param a: element of the first set
+	 * @param b: element of the second set
+	 * @return: whether the sets were distinct before joining
+	 */
+	public boolean union(int a, int b) {
+		int rootA = this.find(a);
+		int rootB = this.find(b);
+		if (rootA == rootB) {
+			return false;
+		}
+		if (this.rank[rootA] < this.rank[rootB]) {
+			this.parent[rootA] = rootB;
+		} else if (this.rank[rootA] > this.rank[rootB]) {
+			this.parent[rootB] = rootA;
+		} else {
+			this.parent[rootB] = rootA;
+			this.rank[rootA] ++;
+		}
+		return true;
+	}
+}
+
+
+/*
+ * The interface IRowSink receives a maze one row at a time, as written
+ * by a streaming generator. Each row holds one byte per node, using the
+ * RIGHT and BOTTOM wall bits of CompactMaze.
+ */
+interface IRowSink {
+
+	/*
+	 * Effect: takes in the walls of one row. The array is reused for the
+	 * next row, so a sink that keeps the walls must copy them.
+	 * 
+	 * @param y: row number, starting from 0 at the top
+	 * @param walls: wall bits of each node in the row, left to right
+	 */
+	void acceptRow(int y, byte[] walls);
+}
+
+/*
+ * The interface IMaze defines the read-only view of a generated maze 
+ * that the solvers need: its size and which walls still stand. Nodes
+ * are identified by position, numbered row by row as y * width + x.
+ */
+interface IMaze {
+
+	/* Width of the maze, in number of nodes */
+	int width();
+
+	/* Height of the maze, in number of nodes */
+	int height();
+
+	/* Position of the node at given logical x-y coordinates */
+	int index(int x, int y);
+
+	/* Does the wall to the right of the node at given position stand? */
+	boolean hasRightWall(int cell);
+
+	/* Does the wall below the node at given position stand? */
+	boolean hasBottomWall(int cell);
+
+	/* Effect: writes the open neighbors of given position to out, returning how many */
+	int neighbors(int cell, int[] out);
+}
+
+
+/*
+ * The WallIndex class, an instance of which records the walls still 
+ * standing in the maze as two packed bitsets, one for the wall to the
+ * right of each node and one for the wall below it. Bits are keyed by 
+ * the node's position, so wall checks take constant time rather than 
+ * a scan of every Edge on the board. All walls start out standing.
+ */
+class WallIndex {
+	int width;
+	int height;
+	BitSet right;
+	BitSet bottom;
+
+	/*
+	 * Constructor for WallIndex objects.
+	 * 
+	 * @param width: width, in number of nodes
+	 * @param height: height, in number of nodes
+	 */
+	WallIndex(int width, int height) {
+		this.width = width;
+		this.height = height;
+		this.right = new BitSet(width * height);
+		this.bottom = new BitSet(width * height);
+		this.right.set(0, width * height);
+		this.bottom.set(0, width * height);
+	}
+
+	/*
+	 * Checks if the wall to the right of the given position stands.
+	 * 
+	 * @param x: x-coordinate of the node
+	 * @param y: y-coordinate of the node
+	 * @return: whether the wall stands
+	 */
+	public boolean hasRightWall(int x, int y) {
+		return this.right.get(y * this.width + x);
+	}
+
+	/*
+	 * Checks if the wall below the given position stands.
+	 * 
+	 * @param x: x-coordinate of the node
+	 * @param y: y-coordinate of the node
+	 * @return: whether the wall stands
+	 */
+	public boolean hasBottomWall(int x, int y) {
+		return this.bottom.get(y * this.width + x);
+	}
+
+	/*
+	 * Checks if a standing wall separates the given adjacent nodes.
+	 * 
+	 * @param a: first node for comparison
+	 * @param b: second node for comparison
+	 * @return: whether the nodes are separated
+	 */
+	public boolean separates(Node a, Node b) {
+		if (a.y == b.y) {
+			return this.hasRightWall(Math.min(a.x, b.x), a.y);
+		} else {
+			return this.hasBottomWall(a.x, Math.min(a.y, b.y));
+		}
+	}
+
+	/*
+	 * Collects the positions reachable in one step from the given 
+	 * position, in left, right, top, bottom order. Positions are
+	 * numbered row by row: y * width + x.
+	 * 
+	 * @param cell: position to find neighbors of
+	 * @param out: buffer of at least four entries to receive neighbors
+	 * @return: number of neighbors written to out
+	 */
+	public int neighbors(int cell, int[] out) {
+		int x = cell % this.width;
+		int count = 0;
+		if (x > 0 && !this.right.get(cell - 1)) {
+			out[count ++] = cell - 1;
+		}
+		if (x < this.width - 1 && !this.right.get(cell)) {
+			out[count ++] = cell + 1;
+		}
+		if (cell >= this.width && !this.bottom.get(cell - this.width)) {
+			out[count ++] = cell - this.width;
+		}
+		if (cell < this.width * (this.height - 1) && !this.bottom.get(cell)) {
+			out[count ++] = cell + this.width;
+		}
+		return count;
+	}
+
+	/*
+	 * Takes down the wall separating the given adjacent nodes.
+	 * 
+	 * @param a: node on one side of the wall
+	 * @param b: node on the other side of the wall
+	 */
+	public void remove(Node a, Node b) {
+		if (a.y == b.y) {
+			this.right.clear(a.y * this.width + Math.min(a.x, b.x));
+		} else {
+			this.bottom.clear(Math.min(a.y, b.y) * this.width + a.x);
+		}
+	}
+}
+
+
+/*
+ * The MazeId class, an instance of which names one maze by its width,
+ * height and seed. The seed starts a SplittableRandom that weighs every
+ * wall in row order, so the same id always generates the same maze,
+ * whether as a Board or a CompactMaze, and a maze can be regenerated on
+ * demand instead of stored. Each generation draws from its own stream,
+ * so workers building different mazes share no Random between them.
+ * Written out, an id reads as width x height, then the seed in hex,
+ * like "5x5-0000000000000019".
+ */
+class MazeId {
+	int width;
+	int height;
+	long seed;
+
+	/*
+	 * Constructor for MazeId objects.
+	 *
+	 * @param width: width, in number of nodes
+	 * @param height: height, in number of nodes
+	 * @param seed: seed for the wall weights
+	 */
+	MazeId(int width, int height, long seed) {
+		if (width < 1 || height < 1) {
+			throw new IllegalArgumentException("Maze must be at least 1x1, not "
+					+ width + "x" + height);
+		}
+		this.width = width;
+		this.height = height;
+		this.seed = seed;
+	}
+
+	/*
+	 * Names a new maze of the given size, with a seed chosen at random.
+	 *
+	 * @param width: width, in number of nodes
+	 * @param height: height, in number of nodes
+	 * @return: id with a fresh seed
+	 */
+	static MazeId fresh(int width, int height) {
+		return new MazeId(width, height, ThreadLocalRandom.current().nextLong());
+	}
+
+	/*
+	 * Reads an id back from its written form.
+	 *
+	 * @param text: id as given by toString
+	 * @return: the id it names
+	 */
+	static MazeId parse(String text) {
+		int times = text.indexOf('x');
+		int dash = text.indexOf('-', times + 1);
+		if (times < 1 || dash < 0) {
+			throw new IllegalArgumentException("Not a maze id: " + text);
+		}
+		try {
+			return new MazeId(Integer.parseInt(text.substring(0, times)),
+					Integer.parseInt(text.substring(times + 1, dash)),
+					Long.parseUnsignedLong(text.substring(dash + 1), 16));
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Not a maze id: " + text, e);
+		}
+	}
+
+	/*
+	 * Starts a new stream of random numbers from this id's seed.
+	 *
+	 * @return: generator that always draws the same numbers for this id
+	 */
+	SplittableRandom random() {
+		return new SplittableRandom(this.seed);
+	}
+
+	/*
+	 * Draws the weight of every wall of the maze this id names.
+	 *
+	 * @return: weight of each wall by wall number
+	 */
+	int[] weighWalls() {
+		return CompactMaze.weighWalls(this.width, this.height, this.random());
+	}
+
+	/* Generates the maze this id names, with Kruskal's method. */
+	CompactMaze generate() {
+		return new CompactMaze(this);
+	}
+
+	/* Are the size and seed of this id the same as that one's? */
+	public boolean equals(Object other) {
+		if (!(other instanceof MazeId)) {
+			return false;
+		}
+		MazeId that = (MazeId) other;
+		return this.width == that.width && this.height == that.height
+				&& this.seed == that.seed;
+	}
+
+	/* Hashes the size and seed of this id. */
+	public int hashCode() {
+		return (31 * this.width + this.height) * 31 + Long.hashCode(this.seed);
+	}
+
+	/* Writes this id as width x height, then the seed in hex. */
+	public String toString() {
+		return this.width + "x" + this.height + "-" + String.format("%016x", this.seed);
+	}
+}
+
+
+/*
+ * The Board class, an instance of which represents the maze in a two-
+ * dimensional capacity. Board is called by MazeWorld relating to the 
+ * construction and storage of IGamePiece and Edge objects.
+ */
+class Board implements IGameConstants, IMaze {
+	int width;
+	int height;
+	ArrayList<ArrayList<Node>> board;
+	ArrayList<Edge> edges;
+	WallIndex walls;
+	RandomGenerator rand;
+	MazeId id;
+	boolean forTests;
+	Node target;
+	ArrayList<Node> explored;
+	DisjointSet sets;
+	DistanceField toTarget;
+	SolutionCache solved;
+
+	/*
+	 * Constructor for the Board class.
+	 * 
+	 * @param w: width, in number of nodes
+	 * @param h: height, in number of nodes
+	 * @param board: 2D ArrayList of all nodes in the maze
+	 * @param edges: all edges in the maze
+	 * @param rand: random generator for edge weight generation
+	 */
+	Board(int w, int h, ArrayList<ArrayList<Node>> board, ArrayList<Edge> edges, RandomGenerator rand) {
+		this.width = w;
+		this.height = h;
+		this.board = board;
+		this.edges = edges;
+		this.rand = rand;
+		this.sets = new DisjointSet(w * h);
+		this.walls = new WallIndex(w, h);
+	}
+
+	/*
+	 * Convenience constructor, for a maze built from given random generator.
+	 * 
+	 * @param rand: random generator for edge weight generation
+	 */
+	Board(int width, int height, RandomGenerator rand) {
+		this(width, height, new ArrayList<ArrayList<Node>>(), new ArrayList<Edge>(), rand);
+		this.makeNodes();
+		this.fixBoard();
+	}
+
+	/*
+	 * Convenience constructor, for the maze the given id names. It has
+	 * the same walls as the CompactMaze generated from that id.
+	 * 
+	 * @param id: width, height and seed of the maze
+	 */
+	Board(MazeId id) {
+		this(id.width, id.height, new ArrayList<ArrayList<Node>>(), new ArrayList<Edge>(), id.random());
+		this.id = id;
+		this.makeNodes();
+		this.fixBoard(id.weighWalls());
+	}
+
+	/*
+	 * Convenience constructor, for playing the maze.
+	 */
+	Board(int width, int height) {
+		this(MazeId.fresh(width, height));
+	}
+
+	/*
+	 * Convenience constructor, for testing.
+	 * 
+	 * @param testMaze: signals need to seed random
+	 */
+	Board(int width, int height, boolean testMaze) {
+		this(width, height, new Random(25));
+	}
+
+	/* Effect: fills the board with nodes and sets the bottom-right one as target. */
+	void makeNodes() {
+		for (int j = 0; j < this.width; j ++) {
+			this.board.add(new ArrayList<Node>());
+			for (int k = 0; k < this.height; k ++) {
+				this.board.get(j).add(new Node(j, k, k * this.width + j));
+			}
+		}
+		this.target = this.get(this.width - 1, this.height - 1);
+	}
+
+	/*
+	 * Draws a random weight for every edge, column by column, indexed by
+	 * wall number like CompactMaze.weighWalls.
+	 * 
+	 * @param rand: random generator for edge weight generation
+	 * @return: weight of each wall by wall number
+	 */
+	int[] weighEdges(RandomGenerator rand) {
+		int[] weights = new int[2 * this.width * this.height];
+		for (int j = 0; j < this.board.size(); j ++) {
+			for (int k = 0; k < this.board.get(j).size(); k ++) {
+				int cell = k * this.width + j;
+				if (j < this.board.size() - 1) {
+					weights[2 * cell] = rand.nextInt((int) Math.pow(10, 6));
+				}
+				if (k < this.board.get(j).size() - 1) {
+					weights[2 * cell + 1] = rand.nextInt((int) Math.pow(10, 6));
+				}
+			}
+		}
+		return weights;
+	}
+
+	/* 
+	 * Creates connections between nodes in the form of Edge objects,
+	 * with weights drawn from this board's random generator.
+	 */
+	void fixBoard() {
+		this.fixBoard(this.weighEdges(this.rand));
+	}
+
+	/* 
+	 * Creates connections between nodes in the form of Edge objects,
+	 * sorted by their given weight. Edges of equal weight are ordered by
+	 * wall number, as CompactMaze.generate orders them, so the same 
+	 * weights always take down the same walls in either form.
+	 * 
+	 * @param weights: weight of each wall by wall number
+	 */
+	void fixBoard(int[] weights) {
+		Edge[] byWall = new Edge[2 * this.width * this.height];
+		int count = 0;
+		for (int j = 0; j < this.board.size(); j ++) {
+			for (int k = 0; k < this.board.get(j).size(); k ++) {
+				Node n = this.get(j, k);
+				int cell = k * this.width + j;
+				if (j < this.board.size() - 1) {
+					n.updateRight(this.get(j + 1, k));
+					byWall[2 * cell] = new Edge(n, this.get(j + 1, k), weights[2 * cell]);
+					count ++;
+				}
+				if (k < this.board.get(j).size() - 1) {
+					n.updateBottom(this.get(j, k + 1));
+					byWall[2 * cell + 1] = new Edge(n, this.get(j, k + 1), weights[2 * cell + 1]);
+					count ++;
+				}
+			}
+		}
+		// Sorts each weight packed above the edge's wall number.
+		long[] order = new long[count];
+		int next = 0;
+		for (int wall = 0; wall < byWall.length; wall ++) {
+			if (byWall[wall] != null) {
+				order[next ++] = ((long) byWall[wall].weight << 32) | wall;
+			}
+		}
+		RadixSort.sort(order, order.length);
+		this.edges = new ArrayList<Edge>(order.length);
+		for (long key : order) {
+			this.edges.add(byWall[(int) key]);
+		}
+	}
+
+	/*
+	 * Assigns the distance value from one given node to another.
+	 * 
+	 * @param current: first node for calculation
+	 * @param target: second node for calculation
+	 */
+	public int getDistance(Node current, Node target) {
+		int xDist = Math.abs(target.x - current.x);
+		int yDist = Math.abs(target.y - current.y);
+
+		if (xDist > yDist) {
+			return (14 * yDist) + (10 * (xDist - yDist));
+		} else {
+			return (14 * xDist) + (10 * (yDist - xDist));
+
+		}
+	}
+
+	/*
+	 * Identifies the node at given logical x-y coordinates.
+	 * 
+	 * @param x: x-coordinate of desired node
+	 * @param y: y-coordinate of desired node
+	 * @return: node object at selected coordinates
+	 */
+	public Node get(int x, int y) {
+		return this.board.get(x).get(y);
+	}
+
+	/* Width of this board, in number of nodes */
+	public int width() {
+		return this.width;
+	}
+
+	/* Height of this board, in number of nodes */
+	public int height() {
+		return this.height;
+	}
+
+	/*
+	 * Identifies the position of the node at given coordinates.
+	 * 
+	 * @param x: x-coordinate of the node
+	 * @param y: y-coordinate of the node
+	 * @return: y * width + x
+	 */
+	public int index(int x, int y) {
+		return y * this.width + x;
+	}
+
+	/* Does the wall to the right of the node at given position stand? */
+	public boolean hasRightWall(int cell) {
+		return this.walls.right.get(cell);
+	}
+
+	/* Does the wall below the node at given position stand? */
+	public boolean hasBottomWall(int cell) {
+		return this.walls.bottom.get(cell);
+	}
+
+	/*
+	 * Collects the open neighbors of the node at given position.
+	 * 
+	 * @param cell: position to find neighbors of
+	 * @param out: buffer of at least four entries to receive neighbors
+	 * @return: number of neighbors written to out
+	 */
+	public int neighbors(int cell, int[] out) {
+		return this.walls.neighbors(cell, out);
+	}
+
+	/*
+	 * Identifies the position of given node, numbered row by row.
+	 * 
+	 * @param n: node to locate
+	 * @return: y * width + x of the node
+	 */
+	public int index(Node n) {
+		return n.y * this.width + n.x;
+	}
+
+	/*
+	 * Identifies the node at given position, numbered row by row.
+	 * 
+	 * @param index: y * width + x of the desired node
+	 * @return: node object at selected position
+	 */
+	public Node get(int index) {
+		return this.get(index % this.width, index / this.width);
+	}
+
+	/* 
+	 * Runs Kruskal's method to completion without animation, taking down
+	 * walls from least to greatest weight until every node is connected.
+	 * Board.edges is left holding only the walls still standing.
+	 */
+	void generate() {
+		ArrayList<Edge> standing = new ArrayList<Edge>();
+		for (Edge e : this.edges) {
+			if (e.sameCodeBothSides(this.sets)) {
+				standing.add(e);
+			} else {
+				e.mergeSets(this.sets);
+				e.removeWall(this.walls);
+			}
+		}
+		this.edges = standing;
+		this.toTarget = null;
+		this.solved = null;
+	}
+
+	/*
+	 * Gives the distance of every node from the target, flooding the 
+	 * generated maze on the first call and keeping the field after.
+	 * 
+	 * @return: distances to the target
+	 */
+	synchronized DistanceField distanceField() {
+		if (this.toTarget == null) {
+			this.toTarget = new DistanceField(this, this.index(this.target));
+		}
+		return this.toTarget;
+	}
+
+	/*
+	 * Gives the distance of every node from the target, flooding the 
+	 * generated maze across the given pool on the first call.
+	 * 
+	 * @param pool: threads to share the work
+	 * @return: distances to the target
+	 */
+	synchronized DistanceField distanceField(ForkJoinPool pool) {
+		if (this.toTarget == null) {
+			this.toTarget = new DistanceField(this, this.index(this.target), pool);
+		}
+		return this.toTarget;
+	}
+
+	/*
+	 * Gives the paths already found on the generated maze, making an 
+	 * empty cache on the first call and keeping it after.
+	 * 
+	 * @return: paths found so far, within 32 bytes per node of the maze
+	 */
+	synchronized SolutionCache solutions() {
+		if (this.solved == null) {
+			this.solved = new SolutionCache(this.width, this.height, 
+					SolutionCache.BYTES_PER_NODE * this.width * this.height);
+		}
+		return this.solved;
+	}
+
+	/*
+	 * Determines size for Node for drawing based on window size.
+	 * 
+	 * @return: integer value of node size limit
+	 */
+	public int cellSize() {
+		int minScreenDim = Math.min(WINDOW_W, WINDOW_H);
+		int size = minScreenDim / Math.max(this.width, this.height);
+		return size;
+	}
+
+	/*
+	 * Determines size of Edge for drawing based on node size
+	 * 
+	 * @return: integer value of edge size limit
+	 */
+	public int edgeThickness() {
+		return Math.max(3, this.cellSize() / 12);
+	}
+
+	/* Retains maze design while restoring all nodes to unvisited status */
+	void reset() {
+		for (int j = 0; j < this.width; j ++) {
+			for (int k = 0; k < this.height; k++) {
+				this.get(j, k).reset();
+			}
+		}
+		this.explored = new ArrayList<Node>();
+	}
+}
+
+
+/*
+ * The CompactMaze class, an instance of which stores a maze as a flat 
+ * array of wall bits, one byte per node, rather than as Node and Edge
+ * objects. It solves exactly like a Board through the IMaze interface, 
+ * and can be copied from a generated Board or generated by itself with
+ * Kruskal's method over primitive arrays, which lets mazes of millions
+ * of nodes fit comfortably in memory.
+ */
+class CompactMaze implements IMaze, IRowSink {
+	static final byte RIGHT = 1;
+	static final byte BOTTOM = 2;
+
+	int width;
+	int height;
+	byte[] cells;
+
+	/*
+	 * Constructor for CompactMaze objects, with every wall standing.
+	 * 
+	 * @param width: width, in number of nodes
+	 * @param height: height, in number of nodes
+	 */
+	CompactMaze(int width, int height) {
+		this.width = width;
+		this.height = height;
+		this.cells = new byte[width * height];
+		Arrays.fill(this.cells, (byte) (RIGHT | BOTTOM));
+	}
+
+	/*
+	 * Convenience constructor, copying the walls of a board.
+	 * 
+	 * @param board: board to copy
+	 */
+	CompactMaze(Board board) {
+		this(board.width, board.height);
+		for (int cell = 0; cell < this.cells.length; cell ++) {
+			this.cells[cell] = (byte) ((board.hasRightWall(cell) ? RIGHT : 0) 
+					| (board.hasBottomWall(cell) ? BOTTOM : 0));
+		}
+	}
+
+	/*
+	 * Convenience constructor, generating the maze the given id names.
+	 * 
+	 * @param id: width, height and seed of the maze
+	 */
+	CompactMaze(MazeId id) {
+		this(id.width, id.height, id.random());
+	}
+
+	/*
+	 * Convenience constructor, generating a new maze with Kruskal's method.
+	 * 
+	 * @param width: width, in number of nodes
+	 * @param height: height, in number of nodes
+	 * @param rand: random generator for wall weight generation
+	 */
+	CompactMaze(int width, int height, RandomGenerator rand) {
+		this(width, height);
+		this.generate(rand);
+	}
+
+	/*
+	 * Draws a random weight for every interior wall, indexed by wall 
+	 * number: (2 * position) for a right wall and (2 * position + 1) for
+	 * a bottom one. Walls on the border of the maze get no weight.
+	 * 
+	 * @param rand: random generator for wall weight generation
+	 * @return: weight of each wall by wall number
+	 */
+	int[] weighWalls(RandomGenerator rand) {
+		return weighWalls(this.width, this.height, rand);
+	}
+
+	/*
+	 * Draws a random weight for every interior wall of a maze of the given
+	 * size, as weighWalls does, without needing the maze itself.
+	 * 
+	 * @param width: width, in number of nodes
+	 * @param height: height, in number of nodes
+	 * @param rand: random generator for wall weight generation
+	 * @return: weight of each wall by wall number
+	 */
+	static int[] weighWalls(int width, int height, RandomGenerator rand) {
+		int size = width * height;
+		int[] weights = new int[2 * size];
+		for (int cell = 0; cell < size; cell ++) {
+			if (cell % width < width - 1) {
+				weights[2 * cell] = rand.nextInt(1000000);
+			}
+			if (cell < size - width) {
+				weights[2 * cell + 1] = rand.nextInt(1000000);
+			}
+		}
+		return weights;
+	}
+
+	/*
+	 * Takes down walls from least to greatest random weight until every 
+	 * node is connected. Each interior wall is packed into a long as its
+	 * weight above its wall number, so sorting needs no objects, and no
+	 * two walls compare equal.
+	 * 
+	 * @param rand: random generator for wall weight generation
+	 */
+	void generate(RandomGenerator rand) {
+		int size = this.width * this.height;
+		int[] weights = this.weighWalls(rand);
+		long[] order = new long[(this.width - 1) * this.height + this.width * (this.height - 1)];
+		int count = 0;
+		for (int cell = 0; cell < size; cell ++) {
+			if (cell % this.width < this.width - 1) {
+				order[count ++] = ((long) weights[2 * cell] << 32) | (2 * cell);
+			}
+			if (cell < size - this.width) {
+				order[count ++] = ((long) weights[2 * cell + 1] << 32) | (2 * cell + 1);
+			}
+		}
+		RadixSort.sort(order, count);
+		DisjointSet sets = new DisjointSet(size);
+		int removed = 0;
+		for (int i = 0; i < count && removed < size - 1; i ++) {
+			int wall = (int) order[i];
+			int cell = wall / 2;
+			boolean bottom = wall % 2 == 1;
+			if (sets.union(cell, bottom ? cell + this.width : cell + 1)) {
+				this.cells[cell] &= bottom ? ~BOTTOM : ~RIGHT;
+				removed ++;
+			}
+		}
+	}
+
+	/*
+	 * Copies the walls of one row from a streaming generator.
+	 * 
+	 * @param y: row number, starting from 0 at the top
+	 * @param walls: wall bits of each node in the row, left to right
+	 */
+	public void acceptRow(int y, byte[] walls) {
+		System.arraycopy(walls, 0, this.cells, y * this.width, this.width);
+	}
+
+	/*
+	 * Takes down the same walls as generate, using Boruvka's method across
+	 * the threads of the given pool. Walls compare by the same packed 
+	 * weight and wall number, so the spanning tree, and the maze, is 
+	 * exactly the one Kruskal's method would build from the same random generator.
+	 * 
+	 * @param rand: random generator for wall weight generation
+	 * @param pool: threads to share the work
+	 */
+	void generateParallel(RandomGenerator rand, ForkJoinPool pool) {
+		new Boruvka(this, this.weighWalls(rand)).run(pool);
+	}
+
+	/* Width of this maze, in number of nodes */
+	public int width() {
+		return this.width;
+	}
+
+	/* Height of this maze, in number of nodes */
+	public int height() {
+		return this.height;
+	}
+
+	/*
+	 * Identifies the position of the node at given coordinates.
+	 * 
+	 * @param x: x-coordinate of the node
+	 * @param y: y-coordinate of the node
+	 * @return: y * width + x
+	 */
+	public int index(int x, int y) {
+		return y * this.width + x;
+	}
+
+	/* Does the wall to the right of the node at given position stand? */
+	public boolean hasRightWall(int cell) {
+		return (this.cells[cell] & RIGHT) != 0;
+	}
+
+	/* Does the wall below the node at given position stand? */
+	public boolean hasBottomWall(int cell) {
+		return (this.cells[cell] & BOTTOM) != 0;
+	}
+
+	/*
+	 * Collects the open neighbors of the node at given position, in
+	 * left, right, top, bottom order.
+	 * 
+	 * @param cell: position to find neighbors of
+	 * @param out: buffer of at least four entries to receive neighbors
+	 * @return: number of neighbors written to out
+	 */
+	public int neighbors(int cell, int[] out) {
+		int x = cell % this.width;
+		int count = 0;
+		if (x > 0 && (this.cells[cell - 1] & RIGHT) == 0) {
+			out[count ++] = cell - 1;
+		}
+		if (x < this.width - 1 && (this.cells[cell] & RIGHT) == 0) {
+			out[count ++] = cell + 1;
+		}
+		if (cell >= this.width && (this.cells[cell - this.width] & BOTTOM) == 0) {
+			out[count ++] = cell - this.width;
+		}
+		if (cell < this.cells.length - this.width && (this.cells[cell] & BOTTOM) == 0) {
+			out[count ++] = cell + this.width;
+		}
+		return count;
+	}
+}
+
+
+/*
+ * The EllerGenerator class, an instance of which writes a perfect maze
+ * one row at a time with Eller's method, so mazes of any height can be
+ * streamed out while only the current row is held in memory. Within a 
+ * row, walls between different sets come down at random, joining them;
+ * then each set opens at least one wall downward, so that it carries on
+ * into the next row. The last row joins every set that remains.
+ */
+class EllerGenerator {
+	int width;
+	RandomGenerator rand;
+	DisjointSet sets;
+	int[] label;
+	int[] openings;
+	int[] first;
+	byte[] row;
+	long coins;
+	int coinsLeft;
+
+	/*
+	 * Constructor for EllerGenerator objects.
+	 * 
+	 * @param width: width of the maze, in number of nodes
+	 * @param rand: random generator for choosing which walls come down
+	 */
+	EllerGenerator(int width, RandomGenerator rand) {
+		this.width = width;
+		this.rand = rand;
+		this.sets = new DisjointSet(width);
+		this.label = new int[width];
+		this.openings = new int[width];
+		this.first = new int[width];
+		this.row = new byte[width];
+		this.coins = 0;
+		this.coinsLeft = 0;
+	}
+
+	/*
+	 * Flips a coin, drawing 64 of them from the random generator at a time.
+	 * 
+	 * @return: heads or tails
+	 */
+	boolean flip() {
+		if (this.coinsLeft == 0) {
+			this.coins = this.rand.nextLong();
+			this.coinsLeft = 64;
+		}
+		this.coinsLeft --;
+		boolean heads = (this.coins & 1) != 0;
+		this.coins >>>= 1;
+		return heads;
+	}
+
+	/*
+	 * Effect: writes every row of a new maze to the given sink, in order.
+	 * 
+	 * @param height: height of the maze, in number of nodes
+	 * @param sink: receiver of each row
+	 */
+	void generate(int height, IRowSink sink) {
+		// Each node of the first row starts in a set of its own.
+		for (int x = 0; x < this.width; x ++) {
+			this.label[x] = x;
+		}
+		for (int y = 0; y < height; y ++) {
+			boolean last = y == height - 1;
+			this.startRow();
+			this.joinAcross(last);
+			if (last) {
+				for (int x = 0; x < this.width; x ++) {
+					this.row[x] |= CompactMaze.BOTTOM;
+				}
+			} else {
+				this.openDown();
+			}
+			sink.acceptRow(y, this.row);
+		}
+	}
+
+	/*
+	 * Effect: restores the sets carried down from the row above, each 
+	 * labeled by one of its columns, and raises every wall of the row.
+	 */
+	void startRow() {
+		for (int x = 0; x < this.width; x ++) {
+			this.sets.parent[x] = this.label[x];
+			this.sets.rank[x] = 0;
+			this.row[x] = CompactMaze.RIGHT | CompactMaze.BOTTOM;
+		}
+	}
+
+	/*
+	 * Effect: takes down walls between neighbors of different sets, at 
+	 * random, or all of them on the last row.
+	 * 
+	 * @param last: whether this is the last row of the maze
+	 */
+	void joinAcross(boolean last) {
+		for (int x = 0; x < this.width - 1; x ++) {
+			if ((last || this.flip()) && this.sets.union(x, x + 1)) {
+				this.row[x] &= ~CompactMaze.RIGHT;
+			}
+		}
+	}
+
+	/*
+	 * Effect: takes down walls below the row at random, making sure that
+	 * every set has at least one, and labels the next row's sets. A node 
+	 * below an opening carries on the set above it; any other node starts
+	 * a set of its own.
+	 */
+	void openDown() {
+		for (int x = 0; x < this.width; x ++) {
+			int root = this.sets.find(x);
+			this.label[x] = root;
+			this.openings[root] = 0;
+			this.first[root] = -1;
+		}
+		for (int x = 0; x < this.width; x ++) {
+			int root = this.label[x];
+			if (this.first[root] < 0) {
+				this.first[root] = x;
+			}
+			if (this.flip()) {
+				this.row[x] &= ~CompactMaze.BOTTOM;
+				this.openings[root] ++;
+			}
+		}
+		for (int x = 0; x < this.width; x ++) {
+			int root = this.label[x];
+			if (this.openings[root] == 0) {
+				this.row[this.first[root]] &= ~CompactMaze.BOTTOM;
+				this.openings[root] ++;
+			}
+		}
+
+		// Each set is relabeled by its first open column in the next row.
+		for (int x = 0; x < this.width; x ++) {
+			this.first[this.label[x]] = -1;
+		}
+		for (int x = 0; x < this.width; x ++) {
+			if ((this.row[x] & CompactMaze.BOTTOM) != 0) {
+				this.label[x] = x;
+			} else {
+				int root = this.label[x];
+				if (this.first[root] < 0) {
+					this.first[root] = x;
+				}
+				this.label[x] = this.first[root];
+			}
+		}
+	}
+}
+
+/*
+ * The MazeFile class describes the binary maze file. A 24-byte header 
+ * holds the magic number "MAZE", the format version, the width, the 
+ * height and the seed the maze was generated from. Then come the rows, 
+ * top to bottom, with 2 bits per node: RIGHT in the low bit and BOTTOM 
+ * in the high bit, four nodes to a byte starting from the lowest bits. 
+ * Each row starts on a fresh byte, so any node can be found directly.
+ */
+class MazeFile {
+	static final int MAGIC = 0x4D415A45;
+	static final int VERSION = 1;
+	static final int HEADER = 24;
+
+	/*
+	 * Counts the bytes taken by one row of a maze file.
+	 * 
+	 * @param width: width of the maze, in number of nodes
+	 * @return: bytes per row
+	 */
+	static int rowBytes(int width) {
+		return (width + 3) / 4;
+	}
+
+	/*
+	 * Effect: generates the maze the given id names and saves it to a file,
+	 * so that it can be checked against the id later.
+	 *
+	 * @param id: width, height and seed of the maze
+	 * @param path: file to write, replaced if it exists
+	 */
+	static void write(MazeId id, Path path) throws IOException {
+		write(id.generate(), id.seed, path);
+	}
+
+	/*
+	 * Effect: saves the given maze to a file.
+	 * 
+	 * @param maze: maze to save
+	 * @param seed: seed the maze was generated from
+	 * @param path: file to write, replaced if it exists
+	 */
+	static void write(IMaze maze, long seed, Path path) throws IOException {
+		byte[] row = new byte[maze.width()];
+		try (MazeFileWriter writer = new MazeFileWriter(path, maze.width(), maze.height(), seed)) {
+			for (int y = 0; y < maze.height(); y ++) {
+				for (int x = 0; x < maze.width(); x ++) {
+					int cell = maze.index(x, y);
+					row[x] = (byte) ((maze.hasRightWall(cell) ? CompactMaze.RIGHT : 0) 
+							| (maze.hasBottomWall(cell) ? CompactMaze.BOTTOM : 0));
+				}
+				writer.acceptRow(y, row);
+			}
+		}
+	}
+}
+
+/*
+ * The MazeFileWriter class, an instance of which writes a maze file as
+ * its rows arrive. As a row sink it can take a maze streamed from an 
+ * EllerGenerator straight to disk, holding no more than one row.
+ */
+class MazeFileWriter implements IRowSink, Closeable {
+	FileChannel channel;
+	ByteBuffer buffer;
+	int width;
+	int height;
+	int rows;
+
+	/*
+	 * Constructor for MazeFileWriter objects, writing the header.
+	 * 
+	 * @param path: file to write, replaced if it exists
+	 * @param width: width of the maze, in number of nodes
+	 * @param height: height of the maze, in number of nodes
+	 * @param seed: seed the maze was generated from
+	 */
+	MazeFileWriter(Path path, int width, int height, long seed) throws IOException {
+		this.channel = FileChannel.open(path, StandardOpenOption.CREATE, 
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+		this.buffer = ByteBuffer.allocate(Math.max(MazeFile.HEADER, MazeFile.rowBytes(width)));
+		this.width = width;
+		this.height = height;
+		this.rows = 0;
+		this.buffer.putInt(MazeFile.MAGIC).putInt(MazeFile.VERSION)
+				.putInt(width).putInt(height).putLong(seed).flip();
+		this.writeBuffer();
+	}
+
+	/*
+	 * Effect: packs the walls of one row and appends it to the file.
+	 * 
+	 * @param y: row number, which must be the next row
+	 * @param walls: wall bits of each node in the row, left to right
+	 */
+	public void acceptRow(int y, byte[] walls) {
+		if (y != this.rows) {
+			throw new IllegalArgumentException("Expected row " + this.rows + " but got row " + y);
+		}
+		this.buffer.clear();
+		for (int x = 0; x < this.width; x += 4) {
+			int packed = 0;
+			for (int i = 0; i < 4 && x + i < this.width; i ++) {
+				packed |= (walls[x + i] & 3) << (2 * i);
+			}
+			this.buffer.put((byte) packed);
+		}
+		this.buffer.flip();
+		try {
+			this.writeBuffer();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		this.rows ++;
+	}
+
+	/* Effect: writes out whatever remains in the buffer. */
+	void writeBuffer() throws IOException {
+		while (this.buffer.hasRemaining()) {
+			this.channel.write(this.buffer);
+		}
+	}
+
+	/* Effect: closes the file, which must have every row of the maze. */
+	public void close() throws IOException {
+		this.channel.close();
+		if (this.rows != this.height) {
+			throw new IOException("Maze file has " + this.rows + " of " + this.height + " rows");
+		}
+	}
+}
+
+/*
+ * The MappedMaze class, an instance of which is a maze file opened by
+ * mapping it into memory. Walls are read from the mapped file as they
+ * are queried, so opening a maze takes no time and no copy of it is 
+ * made. Files past the 2 GB a single mapping can hold are mapped in 
+ * segments of whole rows, with each node found by its coordinates.
+ */
+class MappedMaze implements IMaze {
+	static final int SEGMENT = 1 << 30;
+
+	int width;
+	int height;
+	long seed;
+	int version;
+	int rowBytes;
+	int rowsPerSegment;
+	MappedByteBuffer[] segments;
+
+	/*
+	 * Constructor for MappedMaze objects.
+	 * 
+	 * @param path: maze file to open
+	 */
+	MappedMaze(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			ByteBuffer header = ByteBuffer.allocate(MazeFile.HEADER);
+			while (header.hasRemaining() && channel.read(header) >= 0) {
+				// reads until the header is full or the file ends
+			}
+			header.flip();
+			if (header.remaining() < MazeFile.HEADER || header.getInt() != MazeFile.MAGIC) {
+				throw new IOException("Not a maze file: " + path);
+			}
+			this.version = header.getInt();
+			if (this.version != MazeFile.VERSION) {
+				throw new IOException("Unsupported maze file version: " + this.version);
+			}
+			this.width = header.getInt();
+			this.height = header.getInt();
+			this.seed = header.getLong();
+			this.rowBytes = MazeFile.rowBytes(this.width);
+			if (channel.size() < MazeFile.HEADER + (long) this.rowBytes * this.height) {
+				throw new IOException("Maze file is cut short: " + path);
+			}
+
+			this.rowsPerSegment = Math.max(1, SEGMENT / this.rowBytes);
+			this.segments = new MappedByteBuffer[(this.height + this.rowsPerSegment - 1) / this.rowsPerSegment];
+			for (int i = 0; i < this.segments.length; i ++) {
+				int rows = Math.min(this.rowsPerSegment, this.height - i * this.rowsPerSegment);
+				this.segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, 
+						MazeFile.HEADER + (long) i * this.rowsPerSegment * this.rowBytes, 
+						(long) rows * this.rowBytes);
+			}
+		}
+	}
+
+	/*
+	 * Reads the 2 wall bits of the node at given coordinates.
+	 * 
+	 * @param x: x-coordinate of the node
+	 * @param y: y-coordinate of the node
+	 * @return: RIGHT and BOTTOM bits of the node
+	 */
+	public int walls(int x, int y) {
+		MappedByteBuffer segment = this.segments[y / this.rowsPerSegment];
+		int packed = segment.get((y % this.rowsPerSegment) * this.rowBytes + x / 4);
+		return (packed >> (2 * (x % 4))) & 3;
+	}
+
+	/* Does the wall to the right of the node at given coordinates stand? */
+	public boolean hasRightWall(int x, int y) {
+		return (this.walls(x, y) & CompactMaze.RIGHT) != 0;
+	}
+
+	/* Does the wall below the node at given coordinates stand? */
+	public boolean hasBottomWall(int x, int y) {
+		return (this.walls(x, y) & CompactMaze.BOTTOM) != 0;
+	}
+
+	/* Id of the maze saved in this file, by its size and seed */
+	MazeId id() {
+		return new MazeId(this.width, this.height, this.seed);
+	}
+
+	/* Width of this maze, in number of nodes */
+	public int width() {
+		return this.width;
+	}
+
+	/* Height of this maze, in number of nodes */
+	public int height() {
+		return this.height;
+	}
+
+	/*
+	 * Identifies the position of the node at given coordinates. Only
+	 * mazes of fewer than 2^31 nodes can be numbered this way.
+	 * 
+	 * @param x: x-coordinate of the node
+	 * @param y: y-coordinate of the node
+	 * @return: y * width + x
+	 */
+	public int index(int x, int y) {
+		return y * this.width + x;
+	}
+
+	/* Does the wall to the right of the node at given position stand? */
+	public boolean hasRightWall(int cell) {
+		return this.hasRightWall(cell % this.width, cell / this.width);
+	}
+
+	/* Does the wall below the node at given position stand? */
+	public boolean hasBottomWall(int cell) {
+		return this.hasBottomWall(cell % this.width, cell / this.width);
+	}
+
+	/*
+	 * Collects the open neighbors of the node at given position, in
+	 * left, right, top, bottom order.
+	 * 
+	 * @param cell: position to find neighbors of
+	 * @param out: buffer of at least four entries to receive neighbors
+	 * @return: number of neighbors written to out
+	 */
+	public int neighbors(int cell, int[] out) {
+		int x = cell % this.width;
+		int y = cell / this.width;
+		int count = 0;
+		if (x > 0 && !this.hasRightWall(x - 1, y)) {
+			out[count ++] = cell - 1;
+		}
+		if (x < this.width - 1 && !this.hasRightWall(x, y)) {
+			out[count ++] = cell + 1;
+		}
+		if (y > 0 && !this.hasBottomWall(x, y - 1)) {
+			out[count ++] = cell - this.width;
+		}
+		if (y < this.height - 1 && !this.hasBottomWall(x, y)) {
+			out[count ++] = cell + this.width;
+		}
+		return count;
+	}
+}
+
+/*
+ * The RadixSort class sorts keys that pack a non-negative weight into 
+ * their upper 32 bits above an index in their lower 32 bits. Walls and
+ * edges are weighted below a million, so a few passes of counting by 
+ * 11 bits of the weight at a time replace a comparison sort, and the 
+ * passes are stable, so keys of equal weight keep their order.
+ */
+class RadixSort {
+	static final int BITS = 11;
+
+	/*
+	 * Effect: sorts the first count keys by weight, keeping the order of
+	 * keys with equal weights.
+	 * 
+	 * @param keys: keys, each a weight above an index
+	 * @param count: number of keys to sort
+	 */
+	static void sort(long[] keys, int count) {
+		long max = 0;
+		for (int i = 0; i < count; i ++) {
+			max = Math.max(max, keys[i] >>> 32);
+		}
+		long[] from = keys;
+		long[] to = new long[count];
+		int[] starts = new int[1 << BITS];
+		for (int shift = 32; shift < 64 && (max >>> (shift - 32)) > 0; shift += BITS) {
+			Arrays.fill(starts, 0);
+			for (int i = 0; i < count; i ++) {
+				starts[(int) (from[i] >>> shift) & ((1 << BITS) - 1)] ++;
+			}
+			int total = 0;
+			for (int digit = 0; digit < starts.length; digit ++) {
+				int size = starts[digit];
+				starts[digit] = total;
+				total += size;
+			}
+			for (int i = 0; i < count; i ++) {
+				to[starts[(int) (from[i] >>> shift) & ((1 << BITS) - 1)] ++] = from[i];
+			}
+			long[] swap = from;
+			from = to;
+			to = swap;
+		}
+		if (from != keys) {
+			System.arraycopy(from, 0, keys, 0, count);
+		}
+	}
+}
+
+/*
+ * The Boruvka class, an instance of which builds the spanning tree of
+ * a CompactMaze in parallel. Each round, every component of connected
+ * nodes picks the lightest wall leading out of it, all those walls come
+ * down at once, and the components they join are relabeled. The number
+ * of components at least halves each round, and each step of a round is
+ * split across the threads of a ForkJoinPool by a BoruvkaTask.
+ */
+class Boruvka {
+	static final long NONE = Long.MAX_VALUE;
+
+	CompactMaze maze;
+	int[] weights;
+	int[] label;
+	int[] hook;
+	AtomicLongArray lightest;
+	boolean[] removed;
+	AtomicInteger joined;
+
+	/*
+	 * Constructor for Boruvka objects.
+	 * 
+	 * @param maze: maze to take walls down in, with every wall standing
+	 * @param weights: weight of each wall by wall number
+	 */
+	Boruvka(CompactMaze maze, int[] weights) {
+		int size = maze.width * maze.height;
+		this.maze = maze;
+		this.weights = weights;
+		this.label = new int[size];
+		this.hook = new int[size];
+		this.lightest = new AtomicLongArray(size);
+		this.removed = new boolean[2 * size];
+		this.joined = new AtomicInteger();
+	}
+
+	/*
+	 * Effect: runs rounds until one component is left, then takes down 
+	 * every chosen wall.
+	 * 
+	 * @param pool: threads to share the work
+	 */
+	void run(ForkJoinPool pool) {
+		int size = this.label.length;
+		pool.invoke(new BoruvkaTask(this, BoruvkaStep.START, 0, size));
+		int components = size;
+		while (components > 1) {
+			this.joined.set(0);
+			pool.invoke(new BoruvkaTask(this, BoruvkaStep.LIGHTEST, 0, size));
+			pool.invoke(new BoruvkaTask(this, BoruvkaStep.HOOK, 0, size));
+			pool.invoke(new BoruvkaTask(this, BoruvkaStep.FIND_ROOT, 0, size));
+			pool.invoke(new BoruvkaTask(this, BoruvkaStep.RELABEL, 0, size));
+			components -= this.joined.get();
+		}
+		pool.invoke(new BoruvkaTask(this, BoruvkaStep.REMOVE, 0, size));
+	}
+
+	/*
+	 * Effect: carries out one step of a round for the given positions.
+	 * 
+	 * @param step: step of the round
+	 * @param from: first position, inclusive
+	 * @param to: last position, exclusive
+	 */
+	void run(BoruvkaStep step, int from, int to) {
+		int width = this.maze.width;
+		switch (step) {
+		case START: 
+			for (int cell = from; cell < to; cell ++) {
+				this.label[cell] = cell;
+				this.hook[cell] = cell;
+				this.lightest.set(cell, NONE);
+			}
+			break;
+		case LIGHTEST: 
+			// Each wall is offered to the components on both of its sides.
+			for (int cell = from; cell < to; cell ++) {
+				if (cell % width < width - 1) {
+					this.offer(2 * cell, cell, cell + 1);
+				}
+				if (cell < this.label.length - width) {
+					this.offer(2 * cell + 1, cell, cell + width);
+				}
+			}
+			break;
+		case HOOK: 
+			for (int cell = from; cell < to; cell ++) {
+				if (this.label[cell] == cell) {
+					this.hookComponent(cell);
+				}
+			}
+			break;
+		case FIND_ROOT: 
+			// Hooks only ever point toward a root, so chasing them while 
+			// other threads shorten them still ends at the same root.
+			for (int cell = from; cell < to; cell ++) {
+				if (this.label[cell] == cell) {
+					int root = cell;
+					while (this.hook[root] != root) {
+						root = this.hook[root];
+					}
+					this.hook[cell] = root;
+				}
+			}
+			break;
+		case RELABEL: 
+			for (int cell = from; cell < to; cell ++) {
+				this.label[cell] = this.hook[this.label[cell]];
+				this.lightest.set(cell, NONE);
+			}
+			break;
+		case REMOVE: 
+			for (int cell = from; cell < to; cell ++) {
+				this.maze.cells[cell] &= (this.removed[2 * cell] ? ~CompactMaze.RIGHT : ~0)
+						& (this.removed[2 * cell + 1] ? ~CompactMaze.BOTTOM : ~0);
+			}
+			break;
+		}
+	}
+
+	/*
+	 * Effect: records a wall as the lightest leading out of the components
+	 * on either side of it, if it is lighter than the one found so far.
+	 * 
+	 * @param wall: wall number
+	 * @param a: position on one side
+	 * @param b: position on the other side
+	 */
+	void offer(int wall, int a, int b) {
+		int from = this.label[a];
+		int to = this.label[b];
+		if (from != to) {
+			long key = ((long) this.weights[wall] << 32) | wall;
+			this.lower(from, key);
+			this.lower(to, key);
+		}
+	}
+
+	/*
+	 * Effect: lowers the lightest wall of a component to the given key.
+	 * 
+	 * @param component: label of the component
+	 * @param key: weight above wall number of the wall offered
+	 */
+	void lower(int component, long key) {
+		long current = this.lightest.get(component);
+		while (key < current && !this.lightest.compareAndSet(component, current, key)) {
+			current = this.lightest.get(component);
+		}
+	}
+
+	/*
+	 * Effect: takes down the lightest wall leading out of a component,
+	 * hooking the component onto the one on the far side. When two 
+	 * components pick the same wall, the lower label stays a root.
+	 * 
+	 * @param component: label of the component
+	 */
+	void hookComponent(int component) {
+		long key = this.lightest.get(component);
+		int wall = (int) key;
+		int a = wall / 2;
+		int b = wall % 2 == 1 ? a + this.maze.width : a + 1;
+		int other = this.label[a] == component ? this.label[b] : this.label[a];
+		this.removed[wall] = true;
+		if (this.lightest.get(other) != key || component > other) {
+			this.hook[component] = other;
+			this.joined.incrementAndGet();
+		}
+	}
+}
+
+/*
+ * The BoruvkaStep enum lists the steps of a round of Boruvka's method,
+ * along with starting it and finishing it.
+ */
+enum BoruvkaStep {
+	START,
+	LIGHTEST,
+	HOOK,
+	FIND_ROOT,
+	RELABEL,
+	REMOVE
+}
+
+/*
+ * The BoruvkaTask class, an instance of which carries out one step of
+ * Boruvka's method over a range of positions, splitting it in half until
+ * the pieces are small enough to run on one thread.
+ */
+class BoruvkaTask extends RecursiveAction {
+	static final int THRESHOLD = 1 << 14;
+
+	Boruvka boruvka;
+	BoruvkaStep step;
+	int from;
+	int to;
+
+	/*
+	 * Constructor for BoruvkaTask objects.
+	 * 
+	 * @param boruvka: generator to run the step of
+	 * @param step: step of the round
+	 * @param from: first position, inclusive
+	 * @param to: last position, exclusive
+	 */
+	BoruvkaTask(Boruvka boruvka, BoruvkaStep step, int from, int to) {
+		this.boruvka = boruvka;
+		this.step = step;
+		this.from = from;
+		this.to = to;
+	}
+
+	/* Effect: runs the step, splitting the range across threads. */
+	@Override
+	protected void compute() {
+		if (this.to - this.from <= THRESHOLD) {
+			this.boruvka.run(this.step, this.from, this.to);
+		} else {
+			int mid = (this.from + this.to) >>> 1;
+			invokeAll(new BoruvkaTask(this.boruvka, this.step, this.from, mid),
+					new BoruvkaTask(this.boruvka, this.step, mid, this.to));
+		}
+	}
+}
+
+
+/*
+ * The interface IHeuristic defines the estimate A* uses for the "H Cost"
+ * of reaching a target, along with the cost of a single step so that the
+ * "G Cost" is measured in the same units. An estimate that never exceeds
+ * the true remaining cost keeps the path found by A* the shortest.
+ */
+interface IHeuristic {
+
+	/* Estimated cost of covering the given horizontal and vertical distances */
+	int estimate(int xDist, int yDist);
+
+	/* Cost of moving from one node to a neighbor */
+	int stepCost();
+}
+
+/*
+ * The ManhattanHeuristic class counts the steps remaining when moving
+ * only horizontally and vertically, as every move through the maze does.
+ * This is the default heuristic.
+ */
+class ManhattanHeuristic implements IHeuristic {
+
+	/* Estimated cost of covering the given distances: one per step */
+	public int estimate(int xDist, int yDist) {
+		return xDist + yDist;
+	}
+
+	/* Cost of moving from one node to a neighbor */
+	public int stepCost() {
+		return 1;
+	}
+}
+
+/*
+ * The OctileHeuristic class estimates distance as if diagonal moves
+ * were allowed, at 14 per diagonal and 10 per straight step, as in 
+ * Board.getDistance. It never overestimates, but is looser than 
+ * ManhattanHeuristic in the maze, so A* explores more nodes with it.
+ */
+class OctileHeuristic implements IHeuristic {
+
+	/* Estimated cost of covering the given distances, diagonals included */
+	public int estimate(int xDist, int yDist) {
+		if (xDist > yDist) {
+			return (14 * yDist) + (10 * (xDist - yDist));
+		} else {
+			return (14 * xDist) + (10 * (yDist - xDist));
+		}
+	}
+
+	/* Cost of moving from one node to a neighbor */
+	public int stepCost() {
+		return 10;
+	}
+}
+
+/*
+ * The TieBreak enumeration, which selects which of two nodes with the
+ * same "F Cost" A* expands first.
+ */
+enum TieBreak {
+	LOWEST_H,  // closest to the target by estimate (default)
+	LOWEST_G,  // closest to the origin by path
+	NONE;      // no preference
+
+	/*
+	 * Secondary key for the A* open heap; lower comes out first.
+	 * 
+	 * @param g: "G Cost" of the node
+	 * @param h: "H Cost" of the node
+	 * @return: key to order nodes with equal "F Cost"
+	 */
+	int key(int g, int h) {
+		switch(this) {
+		case LOWEST_H: return h;
+		case LOWEST_G: return g;
+		default: return 0;
+		}
+	}
+}
+
+
+/*
+ * The SearchType enumeration, which allows the MazeWorld class and bigBang 
+ * to distinguish between different search algorithms.
+ */
+enum SearchType {
+	DEPTH_FIRST,
+	BREADTH_FIRST,
+	A_STAR,
+	BIDIRECTIONAL_BFS,
+	BIDIRECTIONAL_A_STAR,
+	INACTIVE,
+	USER
+}
+
+
+/*
+ * The IntQueue class, an instance of which is the first-in, first-out
+ * frontier of a breadth-first search. Positions are kept in a fixed ring
+ * of ints, so adding and removing take constant time and allocate nothing.
+ */
+class IntQueue {
+	int[] ring;
+	int head;
+	int size;
+
+	/*
+	 * Constructor for IntQueue objects.
+	 * 
+	 * @param capacity: most positions held at once, one per node in the maze
+	 */
+	IntQueue(int capacity) {
+		this.ring = new int[Math.max(1, capacity)];
+		this.head = 0;
+		this.size = 0;
+	}
+
+	/* Is this queue empty? */
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	/* How many positions are waiting in this queue? */
+	public int size() {
+		return this.size;
+	}
+
+	/*
+	 * Looks at the position at the front of this queue, leaving it there.
+	 * 
+	 * @return: position at the front
+	 */
+	public int peek() {
+		if (this.size == 0) {
+			throw new NoSuchElementException("Queue is empty");
+		}
+		return this.ring[this.head];
+	}
+
+	/*
+	 * Adds given position to the back of this queue.
+	 * 
+	 * @param cell: position to add
+	 */
+	public void add(int cell) {
+		if (this.size == this.ring.length) {
+			throw new IllegalStateException("Queue is full: " + this.size);
+		}
+		int tail = this.head + this.size;
+		if (tail >= this.ring.length) {
+			tail -= this.ring.length;
+		}
+		this.ring[tail] = cell;
+		this.size ++;
+	}
+
+	/*
+	 * Removes the position at the front of this queue.
+	 * 
+	 * @return: position removed
+	 */
+	public int remove() {
+		if (this.size == 0) {
+			throw new NoSuchElementException("Queue is empty");
+		}
+		int cell = this.ring[this.head];
+		this.head ++;
+		if (this.head == this.ring.length) {
+			this.head = 0;
+		}
+		this.size --;
+		return cell;
+	}
+
+	/* Effect: empties this queue so it can be reused. */
+	public void clear() {
+		this.head = 0;
+		this.size = 0;
+	}
+}
+
+
+/*
+ * The IndexedMinHeap class, an instance of which is the open set of the
+ * A* search. It holds node positions ordered by a primary key ("F Cost")
+ * with ties broken by a secondary key ("H Cost"), and remembers where 
+ * each position sits in the heap so that membership checks take constant
+ * time and keys can be decreased in place.
+ */
+class IndexedMinHeap {
+	int[] heap;
+	int[] slot;
+	int[] primary;
+	int[] secondary;
+	int size;
+
+	/*
+	 * Constructor for IndexedMinHeap objects.
+	 * 
+	 * @param capacity: number of positions, one per node in the maze
+	 */
+	IndexedMinHeap(int capacity) {
+		this.heap = new int[capacity];
+		this.slot = new int[capacity];
+		this.primary = new int[capacity];
+		this.secondary = new int[capacity];
+		Arrays.fill(this.slot, -1);
+	}
+
+	/* Is this heap empty? */
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	/* How many positions are waiting in this heap? */
+	public int size() {
+		return this.size;
+	}
+
+	/* Primary key of the position that would come out next. */
+	public int peekKey() {
+		return this.primary[this.heap[0]];
+	}
+
+	/*
+	 * Checks if given position is waiting in this heap.
+	 * 
+	 * @param cell: position to look up
+	 * @return: whether it is in the heap
+	 */
+	public boolean contains(int cell) {
+		return this.slot[cell] >= 0;
+	}
+
+	/*
+	 * Adds given position to this heap.
+	 * 
+	 * @param cell: position to add, not already in the heap
+	 * @param first: primary key, lower comes out first
+	 * @param second: secondary key, breaks ties on the primary key
+	 */
+	public void insert(int cell, int first, int second) {
+		this.primary[cell] = first;
+		this.secondary[cell] = second;
+		this.heap[this.size] = cell;
+		this.slot[cell] = this.size;
+		this.size ++;
+		this.siftUp(this.size - 1);
+	}
+
+	/*
+	 * Lowers the keys of a position already in this heap.
+	 * 
+	 * @param cell: position to update
+	 * @param first: new primary key, no greater than the old one
+	 * @param second: new secondary key
+	 */
+	public void decreaseKey(int cell, int first, int second) {
+		this.primary[cell] = first;
+		this.secondary[cell] = second;
+		this.siftUp(this.slot[cell]);
+	}
+
+	/*
+	 * Removes the position with the lowest keys.
+	 * 
+	 * @return: position removed
+	 */
+	public int pop() {
+		int top = this.heap[0];
+		this.size --;
+		this.slot[top] = -1;
+		if (this.size > 0) {
+			this.heap[0] = this.heap[this.size];
+			this.slot[this.heap[0]] = 0;
+			this.siftDown(0);
+		}
+		return top;
+	}
+
+	/* Effect: removes every position from this heap. */
+	public void clear() {
+		for (int i = 0; i < this.size; i ++) {
+			this.slot[this.heap[i]] = -1;
+		}
+		this.size = 0;
+	}
+
+	/*
+	 * Compares the keys of two positions.
+	 * 
+	 * @return: whether position a should come out before position b
+	 */
+	boolean before(int a, int b) {
+		return this.primary[a] < this.primary[b] 
+				|| (this.primary[a] == this.primary[b] && this.secondary[a] < this.secondary[b]);
+	}
+
+	/* Effect: moves the entry at given heap slot up to its place. */
+	void siftUp(int i) {
+		int cell = this.heap[i];
+		while (i > 0) {
+			int up = (i - 1) / 2;
+			if (!this.before(cell, this.heap[up])) {
+				break;
+			}
+			this.heap[i] = this.heap[up];
+			this.slot[this.heap[i]] = i;
+			i = up;
+		}
+		this.heap[i] = cell;
+		this.slot[cell] = i;
+	}
+
+	/* Effect: moves the entry at given heap slot down to its place. */
+	void siftDown(int i) {
+		int cell = this.heap[i];
+		while (2 * i + 1 < this.size) {
+			int child = 2 * i + 1;
+			if (child + 1 < this.size && this.before(this.heap[child + 1], this.heap[child])) {
+				child ++;
+			}
+			if (!this.before(this.heap[child], cell)) {
+				break;
+			}
+			this.heap[i] = this.heap[child];
+			this.slot[this.heap[i]] = i;
+			i = child;
+		}
+		this.heap[i] = cell;
+		this.slot[cell] = i;
+	}
+}
+
+
+/*
+ * The SearchResult class, an instance of which holds the outcome of a 
+ * single headless search: the path found and how much was explored.
+ */
+class SearchResult {
+	SearchType search;
+	int[] path;
+	int explored;
+	int frontier;
+
+	/*
+	 * Constructor for SearchResult objects.
+	 * 
+	 * @param search: algorithm that produced this result
+	 * @param path: positions from start to goal, empty if unreachable
+	 * @param explored: number of nodes the search visited
+	 * @param frontier: most nodes the search held waiting at once
+	 */
+	SearchResult(SearchType search, int[] path, int explored, int frontier) {
+		this.search = search;
+		this.path = path;
+		this.explored = explored;
+		this.frontier = frontier;
+	}
+
+	/* Convenience constructor, for results that held no frontier. */
+	SearchResult(SearchType search, int[] path, int explored) {
+		this(search, path, explored, 0);
+	}
+
+	/* Was the goal reached? */
+	public boolean found() {
+		return this.path.length > 0;
+	}
+
+	/*
+	 * Converts the path positions back to nodes of the given board.
+	 * 
+	 * @param b: board the search was run on
+	 * @return: nodes from start to goal
+	 */
+	public ArrayList<Node> pathNodes(Board b) {
+		ArrayList<Node> nodes = new ArrayList<Node>(this.path.length);
+		for (int cell : this.path) {
+			nodes.add(b.get(cell));
+		}
+		return nodes;
+	}
+}
+
+
+/*
+ * The MazeSolver class runs the DFS, BFS and A* searches of MazeWorld 
+ * to completion in a tight loop, with no World, animation or rendering.
+ * It works on node positions (y * width + x) of any IMaze, so a Board
+ * and a CompactMaze solve alike, and leaves Node objects untouched. 
+ * Scratch buffers are reused between solves, so one instance should 
+ * serve one thread; those only A* needs are made on its first run. 
+ * SharedSolver gives each thread an instance of its own.
+ */
+class MazeSolver {
+	IMaze maze;
+	BitSet visited;
+	int[] parent;
+	int[] frontier;
+	int[] neighbors;
+	IndexedMinHeap open;
+	int[] cost;
+	IHeuristic heuristic;
+	TieBreak tieBreak;
+	BidirectionalSearch both;
+
+	/*
+	 * Constructor for MazeSolver objects.
+	 * 
+	 * @param maze: generated maze to solve
+	 * @param heuristic: estimate used for the A* "H Cost"
+	 * @param tieBreak: preference among A* nodes of equal "F Cost"
+	 */
+	MazeSolver(IMaze maze, IHeuristic heuristic, TieBreak tieBreak) {
+		int size = maze.width() * maze.height();
+		this.maze = maze;
+		this.heuristic = heuristic;
+		this.tieBreak = tieBreak;
+		this.visited = new BitSet(size);
+		this.parent = new int[size];
+		this.frontier = new int[size];
+		this.neighbors = new int[4];
+	}
+
+	/* Convenience constructor, using the Manhattan heuristic and lowest "H Cost" ties. */
+	MazeSolver(IMaze maze) {
+		this(maze, new ManhattanHeuristic(), TieBreak.LOWEST_H);
+	}
+
+	/*
+	 * Searches the board from start to goal with the given algorithm.
+	 * 
+	 * @param start: node to search from
+	 * @param goal: node to search for
+	 * @param search: any search algorithm, one-way or bidirectional
+	 * @return: the path found and the number of nodes explored
+	 */
+	public SearchResult solve(Node start, Node goal, SearchType search) {
+		return this.solve(this.maze.index(start.x, start.y), this.maze.index(goal.x, goal.y), search);
+	}
+
+	/*
+	 * Searches the board between the given positions with the given algorithm.
+	 * 
+	 * @param start: position to search from
+	 * @param goal: position to search for
+	 * @param search: any search algorithm, one-way or bidirectional
+	 * @return: the path found and the number of nodes explored
+	 */
+	public SearchResult solve(int start, int goal, SearchType search) {
+		this.visited.clear();
+		switch(search) {
+		case DEPTH_FIRST: return this.depthFirst(start, goal);
+		case BREADTH_FIRST: return this.breadthFirst(start, goal);
+		case A_STAR: return this.aStar(start, goal);
+		case BIDIRECTIONAL_BFS: 
+		case BIDIRECTIONAL_A_STAR: return this.bidirectional(start, goal, search);
+		default: throw new IllegalArgumentException("Not a search algorithm: " + search);
+		}
+	}
+
+	/* Both ways at once: made on the first bidirectional run, then reused. */
+	SearchResult bidirectional(int start, int goal, SearchType search) {
+		if (this.both == null) {
+			this.both = new BidirectionalSearch(this.maze, this.heuristic, this.tieBreak);
+		}
+		this.both.begin(start, goal, search);
+		return this.both.run();
+	}
+
+	/* DFS: the frontier is the current path, extended one node at a time. */
+	SearchResult depthFirst(int start, int goal) {
+		int top = 0;
+		this.frontier[top] = start;
+		this.visited.set(start);
+		int explored = 1;
+		int peak = 1;
+		while (top >= 0) {
+			int current = this.frontier[top];
+			if (current == goal) {
+				return new SearchResult(SearchType.DEPTH_FIRST, 
+						Arrays.copyOf(this.frontier, top + 1), explored, peak);
+			}
+			int count = this.maze.neighbors(current, this.neighbors);
+			int next = -1;
+			for (int i = 0; i < count && next < 0; i ++) {
+				if (!this.visited.get(this.neighbors[i])) {
+					next = this.neighbors[i];
+				}
+			}
+			if (next < 0) {
+				top --;
+			} else {
+				this.visited.set(next);
+				explored ++;
+				this.frontier[++ top] = next;
+				peak = Math.max(peak, top + 1);
+			}
+		}
+		return new SearchResult(SearchType.DEPTH_FIRST, new int[0], explored, peak);
+	}
+
+	/* BFS: the frontier is a queue, and parents are kept for backtracking. */
+	SearchResult breadthFirst(int start, int goal) {
+		int head = 0;
+		int tail = 0;
+		this.frontier[tail ++] = start;
+		this.visited.set(start);
+		int peak = 1;
+		while (head < tail) {
+			int current = this.frontier[head ++];
+			if (current == goal) {
+				return new SearchResult(SearchType.BREADTH_FIRST, 
+						this.backtrack(start, goal), tail, peak);
+			}
+			int count = this.maze.neighbors(current, this.neighbors);
+			for (int i = 0; i < count; i ++) {
+				int next = this.neighbors[i];
+				if (!this.visited.get(next)) {
+					this.visited.set(next);
+					this.parent[next] = current;
+					this.frontier[tail ++] = next;
+				}
+			}
+			peak = Math.max(peak, tail - head);
+		}
+		return new SearchResult(SearchType.BREADTH_FIRST, new int[0], tail, peak);
+	}
+
+	/* 
+	 * A*: the frontier is ordered by lowest "F Cost", ties settled by the
+	 * tie-break. "G Costs" are relaxed whenever a cheaper path turns up.
+	 * Visited marks nodes already expanded.
+	 */
+	SearchResult aStar(int start, int goal) {
+		int step = this.heuristic.stepCost();
+		if (this.open == null) {
+			this.open = new IndexedMinHeap(this.parent.length);
+			this.cost = new int[this.parent.length];
+		}
+		this.open.clear();
+		this.cost[start] = 0;
+		int h = this.estimate(start, goal);
+		this.open.insert(start, h, this.tieBreak.key(0, h));
+		int explored = 0;
+		int peak = 1;
+		while (!this.open.isEmpty()) {
+			int current = this.open.pop();
+			this.visited.set(current);
+			explored ++;
+			if (current == goal) {
+				return new SearchResult(SearchType.A_STAR, this.backtrack(start, goal), explored, peak);
+			}
+			int count = this.maze.neighbors(current, this.neighbors);
+			for (int i = 0; i < count; i ++) {
+				int next = this.neighbors[i];
+				int g = this.cost[current] + step;
+				if (this.visited.get(next) 
+						|| (this.open.contains(next) && g >= this.cost[next])) {
+					continue;
+				}
+				this.cost[next] = g;
+				this.parent[next] = current;
+				h = this.estimate(next, goal);
+				if (this.open.contains(next)) {
+					this.open.decreaseKey(next, g + h, this.tieBreak.key(g, h));
+				} else {
+					this.open.insert(next, g + h, this.tieBreak.key(g, h));
+				}
+			}
+			peak = Math.max(peak, this.open.size());
+		}
+		return new SearchResult(SearchType.A_STAR, new int[0], explored, peak);
+	}
+
+	/*
+	 * Estimates the remaining cost between two positions.
+	 * 
+	 * @param from: position to estimate from
+	 * @param to: position to estimate to
+	 * @return: the heuristic's "H Cost"
+	 */
+	int estimate(int from, int to) {
+		int width = this.maze.width();
+		return this.heuristic.estimate(Math.abs(to % width - from % width), 
+				Math.abs(to / width - from / width));
+	}
+
+	/*
+	 * Follows parent links from goal back to start.
+	 * 
+	 * @param start: position the search began at
+	 * @param goal: position the search reached
+	 * @return: positions from start to goal
+	 */
+	int[] backtrack(int start, int goal) {
+		int length = 1;
+		for (int cell = goal; cell != start; cell = this.parent[cell]) {
+			length ++;
+		}
+		int[] path = new int[length];
+		for (int i = length - 1, cell = goal; i >= 0; i --) {
+			path[i] = cell;
+			if (i > 0) {
+				cell = this.parent[cell];
+			}
+		}
+		return path;
+	}
+}
+
+
+/*
+ * The SharedSolver class, an instance of which lets any number of threads
+ * solve one maze at the same time. The maze is only ever read, and every
+ * search keeps its visited bits, parents and frontier in a MazeSolver it
+ * borrows for the length of the search, so threads share nothing they 
+ * write and no solve waits on another. Solvers are made when none is 
+ * idle and given back after, so there are never more than the most 
+ * searches that ran at once. They belong to this SharedSolver, not to 
+ * the threads that used them, so none outlives it on a long-lived pool.
+ * Batches of solves can be spread across a pool with solveAll.
+ */
+class SharedSolver {
+	IMaze maze;
+	IHeuristic heuristic;
+	TieBreak tieBreak;
+	ConcurrentLinkedQueue<MazeSolver> idle;
+
+	/*
+	 * Constructor for SharedSolver objects.
+	 * 
+	 * @param maze: generated maze to solve, no longer changing
+	 * @param heuristic: estimate used for the A* "H Cost"
+	 * @param tieBreak: preference among A* nodes of equal "F Cost"
+	 */
+	SharedSolver(IMaze maze, IHeuristic heuristic, TieBreak tieBreak) {
+		this.maze = maze;
+		this.heuristic = heuristic;
+		this.tieBreak = tieBreak;
+		this.idle = new ConcurrentLinkedQueue<MazeSolver>();
+	}
+
+	/* Convenience constructor, using the Manhattan heuristic and lowest "H Cost" ties. */
+	SharedSolver(IMaze maze) {
+		this(maze, new ManhattanHeuristic(), TieBreak.LOWEST_H);
+	}
+
+	/*
+	 * Searches the maze between the given positions, on the calling thread.
+	 * 
+	 * @param start: position to search from
+	 * @param goal: position to search for
+	 * @param search: any search algorithm, one-way or bidirectional
+	 * @return: the path found and the number of nodes explored
+	 */
+	public SearchResult solve(int start, int goal, SearchType search) {
+		MazeSolver solver = this.borrow();
+		try {
+			return solver.solve(start, goal, search);
+		} finally {
+			this.giveBack(solver);
+		}
+	}
+
+	/* An idle solver over the maze, or a new one if every solver is busy. */
+	MazeSolver borrow() {
+		MazeSolver solver = this.idle.poll();
+		return solver != null ? solver : new MazeSolver(this.maze, this.heuristic, this.tieBreak);
+	}
+
+	/*
+	 * Effect: returns a borrowed solver for the next search to reuse.
+	 * 
+	 * @param solver: solver borrowed from this SharedSolver
+	 */
+	void giveBack(MazeSolver solver) {
+		this.idle.offer(solver);
+	}
+
+	/*
+	 * Searches the maze between each pair of positions, across given pool.
+	 * 
+	 * @param starts: position to search from, for each pair
+	 * @param goals: position to search for, for each pair
+	 * @param search: any search algorithm, one-way or bidirectional
+	 * @param pool: threads to share the work
+	 * @return: the result for each pair, in order
+	 */
+	public SearchResult[] solveAll(int[] starts, int[] goals, SearchType search, ForkJoinPool pool) {
+		if (starts.length != goals.length) {
+			throw new IllegalArgumentException("Got " + starts.length 
+					+ " starts but " + goals.length + " goals");
+		}
+		SearchResult[] results = new SearchResult[starts.length];
+		pool.invoke(new SolveTask(this, starts, goals, search, results, 0, starts.length));
+		return results;
+	}
+}
+
+
+/*
+ * The SolveTask class, an instance of which runs a range of the solves 
+ * of a batch, splitting it in half until the pieces are small enough to
+ * run on one thread, each with one solver borrowed for its whole range.
+ */
+class SolveTask extends RecursiveAction {
+	static final int THRESHOLD = 4;
+
+	SharedSolver solver;
+	int[] starts;
+	int[] goals;
+	SearchType search;
+	SearchResult[] results;
+	int from;
+	int to;
+
+	/*
+	 * Constructor for SolveTask objects.
+	 * 
+	 * @param solver: solver shared by every thread
+	 * @param starts: position to search from, for each pair
+	 * @param goals: position to search for, for each pair
+	 * @param search: algorithm to search with
+	 * @param results: where the result of each pair goes
+	 * @param from: first pair, inclusive
+	 * @param to: last pair, exclusive
+	 */
+	SolveTask(SharedSolver solver, int[] starts, int[] goals, SearchType search, 
+			SearchResult[] results, int from, int to) {
+		this.solver = solver;
+		this.starts = starts;
+		this.goals = goals;
+		this.search = search;
+		this.results = results;
+		this.from = from;
+		this.to = to;
+	}
+
+	/* Effect: solves the pairs, splitting the range across threads. */
+	@Override
+	protected void compute() {
+		if (this.to - this.from <= THRESHOLD) {
+			MazeSolver borrowed = this.solver.borrow();
+			try {
+				for (int i = this.from; i < this.to; i ++) {
+					this.results[i] = borrowed.solve(this.starts[i], this.goals[i], this.search);
+				}
+			} finally {
+				this.solver.giveBack(borrowed);
+			}
+		} else {
+			int mid = (this.from + this.to) >>> 1;
+			invokeAll(new SolveTask(this.solver, this.starts, this.goals, this.search, 
+					this.results, this.from, mid),
+					new SolveTask(this.solver, this.starts, this.goals, this.search, 
+							this.results, mid, this.to));
+		}
+	}
+}
+
+
+/*
+ * The BidirectionalSearch class, an instance of which searches from both
+ * ends of a path at once, by BFS or by A*, until the two searches meet in
+ * the middle. Each step expands one node, from whichever side has the 
+ * smaller frontier, so it can run to completion for MazeSolver or one 
+ * step per tick for MazeWorld. Whenever a side reaches a node the other 
+ * side has reached, the joined path is kept if it is the shortest yet. 
+ * BFS stops once the two frontiers are together as far apart as that 
+ * path is long. A* orders each side by twice its "G Cost" plus the 
+ * estimate toward its target, less the estimate back to its source, so
+ * both sides rank nodes alike, and stops once the two lowest keys add up
+ * to twice the path's cost. Either way the path is a shortest one, even
+ * in mazes with loops. Side 0 searches forward from the start, side 1 
+ * backward from the goal.
+ */
+class BidirectionalSearch {
+	IMaze maze;
+	IHeuristic heuristic;
+	TieBreak tieBreak;
+	SearchType search;
+	int start;
+	int goal;
+	BitSet[] reached;
+	BitSet[] closed;
+	int[][] parent;
+	int[][] cost;
+	IntQueue[] queues;
+	IndexedMinHeap[] open;
+	int[] neighbors;
+	int[] stepped;
+	int best;
+	int meetForward;
+	int meetBackward;
+	int explored;
+	int peak;
+	boolean done;
+
+	/*
+	 * Constructor for BidirectionalSearch objects.
+	 * 
+	 * @param maze: generated maze to solve
+	 * @param heuristic: estimate used for the A* "H Cost"
+	 * @param tieBreak: preference among A* nodes of equal "F Cost"
+	 */
+	BidirectionalSearch(IMaze maze, IHeuristic heuristic, TieBreak tieBreak) {
+		int size = maze.width() * maze.height();
+		this.maze = maze;
+		this.heuristic = heuristic;
+		this.tieBreak = tieBreak;
+		this.reached = new BitSet[] {new BitSet(size), new BitSet(size)};
+		this.closed = new BitSet[] {new BitSet(size), new BitSet(size)};
+		this.parent = new int[2][size];
+		this.cost = new int[2][size];
+		this.neighbors = new int[4];
+		this.stepped = new int[4];
+		this.done = true;
+	}
+
+	/*
+	 * Effect: sets up a new search between the given positions.
+	 * 
+	 * @param start: position to search from
+	 * @param goal: position to search for
+	 * @param search: BIDIRECTIONAL_BFS or BIDIRECTIONAL_A_STAR
+	 */
+	void begin(int start, int goal, SearchType search) {
+		if (search != SearchType.BIDIRECTIONAL_BFS && search != SearchType.BIDIRECTIONAL_A_STAR) {
+			throw new IllegalArgumentException("Not a bidirectional search: " + search);
+		}
+		int size = this.parent[0].length;
+		this.search = search;
+		this.start = start;
+		this.goal = goal;
+		this.best = Integer.MAX_VALUE;
+		this.explored = 0;
+		this.done = false;
+		if (search == SearchType.BIDIRECTIONAL_BFS && this.queues == null) {
+			this.queues = new IntQueue[] {new IntQueue(size), new IntQueue(size)};
+		}
+		if (search == SearchType.BIDIRECTIONAL_A_STAR && this.open == null) {
+			this.open = new IndexedMinHeap[] {new IndexedMinHeap(size), new IndexedMinHeap(size)};
+		}
+		int[] ends = {start, goal};
+		for (int side = 0; side < 2; side ++) {
+			this.reached[side].clear();
+			this.closed[side].clear();
+			this.reached[side].set(ends[side]);
+			this.cost[side][ends[side]] = 0;
+			if (search == SearchType.BIDIRECTIONAL_BFS) {
+				this.queues[side].clear();
+				this.queues[side].add(ends[side]);
+				this.explored ++;
+			} else {
+				this.open[side].clear();
+				int h = this.estimate(ends[side], ends[1 - side]);
+				this.open[side].insert(ends[side], h, this.tieBreak.key(0, h));
+			}
+		}
+		this.peak = this.frontier();
+		if (start == goal) {
+			this.best = 0;
+			this.meetForward = start;
+			this.meetBackward = goal;
+			this.done = true;
+		}
+	}
+
+	/* How many nodes wait on both sides, together? */
+	int frontier() {
+		if (this.search == SearchType.BIDIRECTIONAL_BFS) {
+			return this.queues[0].size() + this.queues[1].size();
+		}
+		return this.open[0].size() + this.open[1].size();
+	}
+
+	/*
+	 * Expands one node, from the side with the smaller frontier.
+	 * 
+	 * @param out: buffer of at least four entries to receive the positions
+	 *             explored by this step
+	 * @return: number of positions written to out, or -1 once the search 
+	 *          has finished
+	 */
+	int step(int[] out) {
+		if (!this.done) {
+			this.done = this.search == SearchType.BIDIRECTIONAL_BFS 
+					? this.bfsFinished() : this.aStarFinished();
+		}
+		if (this.done) {
+			return -1;
+		}
+		int count;
+		if (this.search == SearchType.BIDIRECTIONAL_BFS) {
+			count = this.stepBfs(this.queues[0].size() <= this.queues[1].size() ? 0 : 1, out);
+		} else {
+			count = this.stepAStar(this.open[0].size() <= this.open[1].size() ? 0 : 1, out);
+		}
+		this.peak = Math.max(this.peak, this.frontier());
+		return count;
+	}
+
+	/* Has BFS run out of frontier, or of shorter paths than the best? */
+	boolean bfsFinished() {
+		if (this.queues[0].isEmpty() || this.queues[1].isEmpty()) {
+			return true;
+		}
+		return this.best != Integer.MAX_VALUE && this.cost[0][this.queues[0].peek()] 
+				+ this.cost[1][this.queues[1].peek()] >= this.best;
+	}
+
+	/* Has A* run out of frontier, or of shorter paths than the best? */
+	boolean aStarFinished() {
+		if (this.open[0].isEmpty() || this.open[1].isEmpty()) {
+			return true;
+		}
+		return this.best != Integer.MAX_VALUE 
+				&& this.open[0].peekKey() + this.open[1].peekKey() >= 2 * this.best;
+	}
+
+	/* BFS: takes the next node of the side's queue and reaches its neighbors. */
+	int stepBfs(int side, int[] out) {
+		int current = this.queues[side].remove();
+		int written = 0;
+		int count = this.maze.neighbors(current, this.neighbors);
+		for (int i = 0; i < count; i ++) {
+			int next = this.neighbors[i];
+			this.meet(side, current, next, 1);
+			if (!this.reached[side].get(next)) {
+				this.reached[side].set(next);
+				this.parent[side][next] = current;
+				this.cost[side][next] = this.cost[side][current] + 1;
+				this.queues[side].add(next);
+				this.explored ++;
+				out[written ++] = next;
+			}
+		}
+		return written;
+	}
+
+	/* A*: expands the side's node of lowest "F Cost", relaxing its neighbors. */
+	int stepAStar(int side, int[] out) {
+		int step = this.heuristic.stepCost();
+		int toward = side == 0 ? this.goal : this.start;
+		int away = side == 0 ? this.start : this.goal;
+		int current = this.open[side].pop();
+		this.closed[side].set(current);
+		this.explored ++;
+		out[0] = current;
+		int count = this.maze.neighbors(current, this.neighbors);
+		for (int i = 0; i < count; i ++) {
+			int next = this.neighbors[i];
+			this.meet(side, current, next, step);
+			int g = this.cost[side][current] + step;
+			if (this.closed[side].get(next) 
+					|| (this.open[side].contains(next) && g >= this.cost[side][next])) {
+				continue;
+			}
+			this.reached[side].set(next);
+			this.cost[side][next] = g;
+			this.parent[side][next] = current;
+			int h = this.estimate(next, toward);
+			int key = 2 * g + h - this.estimate(next, away);
+			if (this.open[side].contains(next)) {
+				this.open[side].decreaseKey(next, key, this.tieBreak.key(g, h));
+			} else {
+				this.open[side].insert(next, key, this.tieBreak.key(g, h));
+			}
+		}
+		return 1;
+	}
+
+	/*
+	 * Effect: keeps the path through the given step if the other side has
+	 * reached its far end and it is the shortest path yet.
+	 * 
+	 * @param side: side taking the step
+	 * @param from: position the step leaves, reached by this side
+	 * @param to: position the step enters
+	 * @param step: cost of the step
+	 */
+	void meet(int side, int from, int to, int step) {
+		if (!this.reached[1 - side].get(to)) {
+			return;
+		}
+		int length = this.cost[side][from] + step + this.cost[1 - side][to];
+		if (length < this.best) {
+			this.best = length;
+			this.meetForward = side == 0 ? from : to;
+			this.meetBackward = side == 0 ? to : from;
+		}
+	}
+
+	/* Effect: runs every remaining step, then gives the outcome. */
+	SearchResult run() {
+		while (this.step(this.stepped) >= 0) {
+			// each step explores one node
+		}
+		return this.result();
+	}
+
+	/* The path found and the number of nodes explored so far. */
+	SearchResult result() {
+		if (this.best == Integer.MAX_VALUE) {
+			return new SearchResult(this.search, new int[0], this.explored, this.peak);
+		}
+		int before = 0;
+		for (int cell = this.meetForward; cell != this.start; cell = this.parent[0][cell]) {
+			before ++;
+		}
+		int after = 0;
+		for (int cell = this.meetBackward; cell != this.goal; cell = this.parent[1][cell]) {
+			after ++;
+		}
+		int[] path = new int[this.meetForward == this.meetBackward ? before + 1 : before + after + 2];
+		for (int i = before, cell = this.meetForward; i >= 0; i --) {
+			path[i] = cell;
+			cell = this.parent[0][cell];
+		}
+		for (int i = before + 1, cell = this.meetBackward; i < path.length; i ++) {
+			path[i] = cell;
+			cell = this.parent[1][cell];
+		}
+		return new SearchResult(this.search, path, this.explored, this.peak);
+	}
+
+	/*
+	 * Estimates the remaining cost between two positions.
+	 * 
+	 * @param from: position to estimate from
+	 * @param to: position to estimate to
+	 * @return: the heuristic's "H Cost"
+	 */
+	int estimate(int from, int to) {
+		int width = this.maze.width();
+		return this.heuristic.estimate(Math.abs(to % width - from % width), 
+				Math.abs(to / width - from / width));
+	}
+}
+
+
+/*
+ * The MazeTree class, an instance of which indexes a perfect maze as the
+ * spanning tree it is, so the path between any two nodes can be found 
+ * with no search at all. Hanging the tree from the top left node, each
+ * node keeps its parent and its depth, and a walk around the tree (an 
+ * Euler tour) records every node as it is entered and again after each
+ * of its children. The lowest common ancestor of two nodes is the 
+ * shallowest node the tour passes between their first visits; a sparse
+ * table over blocks of the tour finds it in O(log n), and the path then 
+ * climbs from each node up to it in O(path length). Blocks keep the 
+ * table to a fraction of the tour, so the whole index is about five ints
+ * per node. The index holds no reference to the maze once built.
+ */
+class MazeTree {
+	static final int BLOCK = 32;
+
+	int[] parent;
+	int[] depth;
+	int[] first;
+	int[] tour;
+	int[][] table;
+
+	/*
+	 * Constructor for MazeTree objects.
+	 * 
+	 * @param maze: generated perfect maze to index
+	 */
+	MazeTree(IMaze maze) {
+		int size = maze.width() * maze.height();
+		this.parent = new int[size];
+		this.depth = new int[size];
+		this.first = new int[size];
+		this.tour = new int[2 * size - 1];
+		this.walk(maze);
+		this.buildTable();
+	}
+
+	/*
+	 * Effect: walks the tree depth first from node 0, without recursion,
+	 * recording parents, depths and the Euler tour.
+	 * 
+	 * @param maze: maze to walk
+	 */
+	void walk(IMaze maze) {
+		int size = this.parent.length;
+		BitSet seen = new BitSet(size);
+		int[] stack = new int[size];
+		int[] tried = new int[size];
+		int[] out = new int[4];
+		int top = 0;
+		int length = 0;
+		stack[0] = 0;
+		tried[0] = 0;
+		this.parent[0] = -1;
+		seen.set(0);
+		this.tour[length ++] = 0;
+		while (top >= 0) {
+			int cell = stack[top];
+			int count = maze.neighbors(cell, out);
+			while (tried[top] < count && out[tried[top]] == this.parent[cell]) {
+				tried[top] ++;
+			}
+			if (tried[top] < count) {
+				int child = out[tried[top] ++];
+				if (seen.get(child)) {
+					throw new IllegalArgumentException("Maze is not perfect: it has a loop at node " + child);
+				}
+				seen.set(child);
+				this.parent[child] = cell;
+				this.depth[child] = this.depth[cell] + 1;
+				this.first[child] = length;
+				this.tour[length ++] = child;
+				stack[++ top] = child;
+				tried[top] = 0;
+			} else if (-- top >= 0) {
+				this.tour[length ++] = stack[top];
+			}
+		}
+		if (seen.cardinality() < size) {
+			throw new IllegalArgumentException("Maze is not perfect: " 
+					+ (size - seen.cardinality()) + " nodes cannot be reached");
+		}
+	}
+
+	/* Effect: finds the shallowest tour entry of each block and each run of 2^k blocks. */
+	void buildTable() {
+		int blocks = (this.tour.length + BLOCK - 1) / BLOCK;
+		int levels = 32 - Integer.numberOfLeadingZeros(blocks);
+		this.table = new int[levels][];
+		this.table[0] = new int[blocks];
+		for (int b = 0; b < blocks; b ++) {
+			this.table[0][b] = this.scan(b * BLOCK, Math.min(this.tour.length, (b + 1) * BLOCK) - 1);
+		}
+		for (int k = 1; k < levels; k ++) {
+			int span = 1 << (k - 1);
+			this.table[k] = new int[blocks - 2 * span + 1];
+			for (int b = 0; b < this.table[k].length; b ++) {
+				this.table[k][b] = this.shallower(this.table[k - 1][b], this.table[k - 1][b + span]);
+			}
+		}
+	}
+
+	/*
+	 * Compares two tour entries by depth.
+	 * 
+	 * @return: whichever entry is shallower, the first on a tie
+	 */
+	int shallower(int a, int b) {
+		return this.depth[this.tour[a]] <= this.depth[this.tour[b]] ? a : b;
+	}
+
+	/*
+	 * Finds the shallowest tour entry in a range by looking at each one.
+	 * 
+	 * @param from: first tour entry of the range
+	 * @param to: last tour entry of the range, inclusive
+	 * @return: the shallowest entry
+	 */
+	int scan(int from, int to) {
+		int best = from;
+		for (int i = from + 1; i <= to; i ++) {
+			best = this.shallower(best, i);
+		}
+		return best;
+	}
+
+	/*
+	 * Finds the lowest common ancestor of two nodes.
+	 * 
+	 * @param a: position of one node
+	 * @param b: position of the other node
+	 * @return: position of the deepest node above, or at, both
+	 */
+	public int ancestor(int a, int b) {
+		int from = Math.min(this.first[a], this.first[b]);
+		int to = Math.max(this.first[a], this.first[b]);
+		int low = from / BLOCK;
+		int high = to / BLOCK;
+		if (low == high) {
+			return this.tour[this.scan(from, to)];
+		}
+		int best = this.shallower(this.scan(from, (low + 1) * BLOCK - 1), this.scan(high * BLOCK, to));
+		if (high - low > 1) {
+			int k = 31 - Integer.numberOfLeadingZeros(high - low - 1);
+			best = this.shallower(best, this.shallower(this.table[k][low + 1], 
+					this.table[k][high - (1 << k)]));
+		}
+		return this.tour[best];
+	}
+
+	/*
+	 * Counts the steps of the path between two nodes.
+	 * 
+	 * @param a: position of one node
+	 * @param b: position of the other node
+	 * @return: number of steps from a to b
+	 */
+	public int distance(int a, int b) {
+		return this.depth[a] + this.depth[b] - 2 * this.depth[this.ancestor(a, b)];
+	}
+
+	/*
+	 * Lists the nodes of the path between two nodes, climbing from each 
+	 * up to their common ancestor.
+	 * 
+	 * @param a: position to start from
+	 * @param b: position to end at
+	 * @return: positions from a to b
+	 */
+	public int[] path(int a, int b) {
+		int top = this.ancestor(a, b);
+		int up = this.depth[a] - this.depth[top];
+		int[] path = new int[up + this.depth[b] - this.depth[top] + 1];
+		for (int i = 0, cell = a; i <= up; i ++) {
+			path[i] = cell;
+			cell = this.parent[cell];
+		}
+		for (int i = path.length - 1, cell = b; i > up; i --) {
+			path[i] = cell;
+			cell = this.parent[cell];
+		}
+		return path;
+	}
+}
+
+
+/*
+ * The DistanceField class, an instance of which holds how many steps 
+ * every node of a maze is from one target node, found by a single BFS 
+ * flooding out from the target. Any number of agents can then walk 
+ * toward the target by stepping to whichever neighbor is one step 
+ * closer, with no search of their own. The flood runs on one thread, or
+ * level by level across a pool, with each level's frontier split among
+ * the threads and every node claimed by exactly one of them.
+ */
+class DistanceField {
+	IMaze maze;
+	int target;
+	int[] distance;
+	int farthest;
+
+	/* Used only while flooding in parallel */
+	AtomicLongArray seen;
+	int[] frontier;
+	int[] next;
+	AtomicInteger nextSize;
+
+	/*
+	 * Constructor for DistanceField objects, flooding on this thread.
+	 * 
+	 * @param maze: generated maze to measure
+	 * @param target: position every distance is measured to
+	 */
+	DistanceField(IMaze maze, int target) {
+		this.maze = maze;
+		this.target = target;
+		this.distance = new int[maze.width() * maze.height()];
+		Arrays.fill(this.distance, -1);
+		this.distance[target] = 0;
+		this.flood();
+	}
+
+	/*
+	 * Constructor for DistanceField objects, flooding across given pool.
+	 * 
+	 * @param maze: generated maze to measure
+	 * @param target: position every distance is measured to
+	 * @param pool: threads to share the work
+	 */
+	DistanceField(IMaze maze, int target, ForkJoinPool pool) {
+		int size = maze.width() * maze.height();
+		this.maze = maze;
+		this.target = target;
+		this.distance = new int[size];
+		Arrays.fill(this.distance, -1);
+		this.distance[target] = 0;
+		this.seen = new AtomicLongArray((size + 63) / 64);
+		this.frontier = new int[size];
+		this.next = new int[size];
+		this.nextSize = new AtomicInteger();
+		this.flood(pool);
+		this.seen = null;
+		this.frontier = null;
+		this.next = null;
+	}
+
+	/* Effect: measures every node by BFS from the target, on this thread. */
+	void flood() {
+		int[] queue = new int[this.distance.length];
+		int[] out = new int[4];
+		int head = 0;
+		int tail = 0;
+		queue[tail ++] = this.target;
+		while (head < tail) {
+			int cell = queue[head ++];
+			int count = this.maze.neighbors(cell, out);
+			for (int i = 0; i < count; i ++) {
+				if (this.distance[out[i]] < 0) {
+					this.distance[out[i]] = this.distance[cell] + 1;
+					queue[tail ++] = out[i];
+				}
+			}
+		}
+		this.farthest = this.distance[queue[tail - 1]];
+	}
+
+	/*
+	 * Effect: measures every node by BFS from the target, one level at a 
+	 * time. Levels too small to be worth splitting run on this thread.
+	 * 
+	 * @param pool: threads to share the work
+	 */
+	void flood(ForkJoinPool pool) {
+		this.claim(this.target);
+		this.frontier[0] = this.target;
+		int size = 1;
+		int level = 0;
+		while (size > 0) {
+			this.nextSize.set(0);
+			if (size <= FloodTask.THRESHOLD) {
+				this.expand(0, size, level);
+			} else {
+				pool.invoke(new FloodTask(this, 0, size, level));
+			}
+			int[] swap = this.frontier;
+			this.frontier = this.next;
+			this.next = swap;
+			size = this.nextSize.get();
+			level ++;
+		}
+		this.farthest = level - 1;
+	}
+
+	/*
+	 * Effect: claims every unclaimed neighbor of part of the frontier for
+	 * the next level, then adds them to the next frontier in one piece.
+	 * 
+	 * @param from: first frontier entry, inclusive
+	 * @param to: last frontier entry, exclusive
+	 * @param level: distance of the frontier from the target
+	 */
+	void expand(int from, int to, int level) {
+		int[] found = new int[4 * (to - from)];
+		int[] out = new int[4];
+		int count = 0;
+		for (int i = from; i < to; i ++) {
+			int neighbors = this.maze.neighbors(this.frontier[i], out);
+			for (int j = 0; j < neighbors; j ++) {
+				if (this.claim(out[j])) {
+					this.distance[out[j]] = level + 1;
+					found[count ++] = out[j];
+				}
+			}
+		}
+		System.arraycopy(found, 0, this.next, this.nextSize.getAndAdd(count), count);
+	}
+
+	/*
+	 * Marks the given position as seen, unless another thread got there first.
+	 * 
+	 * @param cell: position to claim
+	 * @return: whether this call claimed it
+	 */
+	boolean claim(int cell) {
+		long bit = 1L << cell;
+		while (true) {
+			long word = this.seen.get(cell >>> 6);
+			if ((word & bit) != 0) {
+				return false;
+			}
+			if (this.seen.compareAndSet(cell >>> 6, word, word | bit)) {
+				return true;
+			}
+		}
+	}
+
+	/*
+	 * Steps from the node at given position one step toward the target.
+	 * 
+	 * @param cell: position to step from
+	 * @return: the neighbor one step closer, or -1 at the target or if 
+	 *          the target cannot be reached
+	 */
+	public int next(int cell) {
+		int closer = this.distance[cell] - 1;
+		if (closer < 0) {
+			return -1;
+		}
+		int width = this.maze.width();
+		if (cell % width > 0 && this.distance[cell - 1] == closer 
+				&& !this.maze.hasRightWall(cell - 1)) {
+			return cell - 1;
+		}
+		if (cell % width < width - 1 && this.distance[cell + 1] == closer 
+				&& !this.maze.hasRightWall(cell)) {
+			return cell + 1;
+		}
+		if (cell >= width && this.distance[cell - width] == closer 
+				&& !this.maze.hasBottomWall(cell - width)) {
+			return cell - width;
+		}
+		return cell + width;
+	}
+
+	/*
+	 * Follows the field down from the given position to the target.
+	 * 
+	 * @param cell: position to start from
+	 * @return: positions from cell to the target, empty if unreachable
+	 */
+	public int[] pathFrom(int cell) {
+		if (this.distance[cell] < 0) {
+			return new int[0];
+		}
+		int[] path = new int[this.distance[cell] + 1];
+		path[0] = cell;
+		for (int i = 1; i < path.length; i ++) {
+			path[i] = this.next(path[i - 1]);
+		}
+		return path;
+	}
+}
+
+
+/*
+ * The FloodTask class, an instance of which expands part of one level's
+ * frontier of a parallel flood, splitting it in half until the pieces 
+ * are small enough to run on one thread.
+ */
+class FloodTask extends RecursiveAction {
+	static final int THRESHOLD = 1 << 10;
+
+	DistanceField field;
+	int from;
+	int to;
+	int level;
+
+	/*
+	 * Constructor for FloodTask objects.
+	 * 
+	 * @param field: distance field being flooded
+	 * @param from: first frontier entry, inclusive
+	 * @param to: last frontier entry, exclusive
+	 * @param level: distance of the frontier from the target
+	 */
+	FloodTask(DistanceField field, int from, int to, int level) {
+		this.field = field;
+		this.from = from;
+		this.to = to;
+		this.level = level;
+	}
+
+	/* Effect: expands the entries, splitting the range across threads. */
+	@Override
+	protected void compute() {
+		if (this.to - this.from <= THRESHOLD) {
+			this.field.expand(this.from, this.to, this.level);
+		} else {
+			int mid = (this.from + this.to) >>> 1;
+			invokeAll(new FloodTask(this.field, this.from, mid, this.level),
+					new FloodTask(this.field, mid, this.to, this.level));
+		}
+	}
+}
+
+
+/*
+ * The PackedPath class, an instance of which holds a path through the 
+ * maze as its first position and one direction per step after it, two 
+ * bits each, 32 steps to a long: 0 left, 1 right, 2 up, 3 down, in the 
+ * order the Node neighbors are listed.
+ */
+class PackedPath {
+	int start;
+	int end;
+	int length;
+	long[] steps;
+	int slot;
+
+	/*
+	 * Constructor for PackedPath objects, packing the given path.
+	 * 
+	 * @param path: positions of neighboring nodes, at least one
+	 * @param width: width of the maze, in number of nodes
+	 */
+	PackedPath(int[] path, int width) {
+		this.start = path[0];
+		this.end = path[path.length - 1];
+		this.length = path.length;
+		this.steps = new long[(path.length + 30) / 32];
+		this.slot = -1;
+		for (int i = 1; i < path.length; i ++) {
+			int step = path[i] - path[i - 1];
+			long direction;
+			if (step == -1) {
+				direction = 0;
+			} else if (step == 1) {
+				direction = 1;
+			} else if (step == -width) {
+				direction = 2;
+			} else if (step == width) {
+				direction = 3;
+			} else {
+				throw new IllegalArgumentException("Not a step: " + path[i - 1] + " to " + path[i]);
+			}
+			this.steps[(i - 1) >> 5] |= direction << (((i - 1) & 31) << 1);
+		}
+	}
+
+	/*
+	 * Finds the position reached after one more step.
+	 * 
+	 * @param cell: position before the step
+	 * @param step: index of the step, from 0
+	 * @param width: width of the maze, in number of nodes
+	 * @return: position after the step
+	 */
+	int follow(int cell, int step, int width) {
+		switch ((int) (this.steps[step >> 5] >>> ((step & 31) << 1)) & 3) {
+		case 0:
+			return cell - 1;
+		case 1:
+			return cell + 1;
+		case 2:
+			return cell - width;
+		default:
+			return cell + width;
+		}
+	}
+
+	/*
+	 * Unpacks the positions between two indices of the path, backwards if
+	 * the first index comes after the second.
+	 * 
+	 * @param from: index of the first position given
+	 * @param to: index of the last position given
+	 * @param width: width of the maze, in number of nodes
+	 * @return: positions from index from to index to
+	 */
+	int[] slice(int from, int to, int width) {
+		int low = Math.min(from, to);
+		int high = Math.max(from, to);
+		int[] out = new int[high - low + 1];
+		int cell = this.start;
+		for (int i = 0; i < high; i ++) {
+			if (i >= low) {
+				out[i - low] = cell;
+			}
+			cell = this.follow(cell, i, width);
+		}
+		out[high - low] = cell;
+		if (from > to) {
+			for (int i = 0, j = out.length - 1; i < j; i ++, j --) {
+				int swap = out[i];
+				out[i] = out[j];
+				out[j] = swap;
+			}
+		}
+		return out;
+	}
+
+	/* Unpacks the whole path, from start to end. */
+	int[] unpack(int width) {
+		return this.slice(0, this.length - 1, width);
+	}
+
+	/* 
+	 * Estimated heap bytes held: the object, its array and a map entry, 
+	 * and an index entry for each position in a SolutionCache.
+	 */
+	long bytes() {
+		return SolutionCache.ENTRY_BYTES + 8L * this.steps.length 
+				+ SolutionCache.STEP_BYTES * this.length;
+	}
+}
+
+
+/*
+ * The SolutionCache class, an instance of which remembers the paths 
+ * found on one generated Board, packed two bits to a step. Board mazes
+ * are perfect, so the path between two nodes is the only one and every
+ * part of it is itself the path between its ends: a query is answered 
+ * by a path stored for the same ends, for the ends swapped, or by any
+ * stored path passing through both, in either order. To find those, 
+ * every position of every stored path is indexed by its cell, in a 
+ * list of (path, offset) entries kept in flat arrays; a query only 
+ * looks at the paths through its two cells. Paths are unpacked outside
+ * the lock, as stored paths never change. Past the budget, in estimated
+ * bytes including the index, the paths used least recently are dropped
+ * first, along with their index entries.
+ */
+class SolutionCache {
+	static final long ENTRY_BYTES = 96;
+	static final long STEP_BYTES = 12;
+	static final long BYTES_PER_NODE = 32;
+
+	int width;
+	long capacity;
+	long size;
+	LinkedHashMap<Long, PackedPath> paths;
+	ArrayList<PackedPath> slots;
+	ArrayDeque<Integer> freeSlots;
+	int[] first;
+	int[] next;
+	int[] owner;
+	int[] offset;
+	int entries;
+	int freeEntry;
+	AtomicLong hits;
+	AtomicLong subPaths;
+	AtomicLong misses;
+	AtomicLong evictions;
+
+	/*
+	 * Constructor for SolutionCache objects, with nothing cached.
+	 * 
+	 * @param width: width of the maze, in number of nodes
+	 * @param height: height of the maze, in number of nodes
+	 * @param capacity: most estimated bytes held across every stored path
+	 */
+	SolutionCache(int width, int height, long capacity) {
+		this.width = width;
+		this.capacity = capacity;
+		this.size = 0;
+		this.paths = new LinkedHashMap<Long, PackedPath>(16, 0.75f, true);
+		this.slots = new ArrayList<PackedPath>();
+		this.freeSlots = new ArrayDeque<Integer>();
+		this.first = new int[width * height];
+		Arrays.fill(this.first, -1);
+		this.next = new int[16];
+		this.owner = new int[16];
+		this.offset = new int[16];
+		this.entries = 0;
+		this.freeEntry = -1;
+		this.hits = new AtomicLong();
+		this.subPaths = new AtomicLong();
+		this.misses = new AtomicLong();
+		this.evictions = new AtomicLong();
+	}
+
+	/* Key of the path stored from start to goal. */
+	static long key(int start, int goal) {
+		return ((long) start << 32) | (goal & 0xffffffffL);
+	}
+
+	/*
+	 * Looks for the path between two positions among those stored.
+	 * 
+	 * @param start: position the path leaves from
+	 * @param goal: position the path reaches
+	 * @return: positions from start to goal, or null if none stored covers them
+	 */
+	int[] lookup(int start, int goal) {
+		if (start == goal) {
+			this.hits.incrementAndGet();
+			return new int[] {start};
+		}
+		PackedPath found = null;
+		int from = 0;
+		int to = 0;
+		synchronized (this) {
+			PackedPath same = this.paths.get(key(start, goal));
+			PackedPath swapped = same == null ? this.paths.get(key(goal, start)) : null;
+			if (same != null) {
+				found = same;
+				to = same.length - 1;
+				this.hits.incrementAndGet();
+			} else if (swapped != null) {
+				found = swapped;
+				from = swapped.length - 1;
+				this.hits.incrementAndGet();
+			} else {
+				for (int a = this.first[start]; a >= 0 && found == null; a = this.next[a]) {
+					for (int b = this.first[goal]; b >= 0 && found == null; b = this.next[b]) {
+						if (this.owner[a] == this.owner[b]) {
+							found = this.slots.get(this.owner[a]);
+							from = this.offset[a];
+							to = this.offset[b];
+						}
+					}
+				}
+				if (found == null) {
+					this.misses.incrementAndGet();
+					return null;
+				}
+				// Counts as a use of the path, once the lists are no longer walked.
+				this.paths.get(key(found.start, found.end));
+				this.subPaths.incrementAndGet();
+			}
+		}
+		return found.slice(from, to, this.width);
+	}
+
+	/*
+	 * Effect: stores the given path, dropping the least recently used 
+	 * paths until it fits. Empty paths and paths over the whole budget 
+	 * are not stored.
+	 * 
+	 * @param path: positions from start to goal
+	 */
+	synchronized void store(int[] path) {
+		if (path.length < 2) {
+			return;
+		}
+		long key = key(path[0], path[path.length - 1]);
+		if (this.paths.containsKey(key)) {
+			return;
+		}
+		PackedPath packed = new PackedPath(path, this.width);
+		long weight = packed.bytes();
+		if (weight > this.capacity) {
+			return;
+		}
+		Iterator<PackedPath> eldest = this.paths.values().iterator();
+		while (this.size + weight > this.capacity) {
+			PackedPath dropped = eldest.next();
+			eldest.remove();
+			this.unindex(dropped);
+			this.size -= dropped.bytes();
+			this.evictions.incrementAndGet();
+		}
+		this.paths.put(key, packed);
+		this.index(packed, path);
+		this.size += weight;
+	}
+
+	/*
+	 * Effect: gives a new path a slot and adds an entry for each of its 
+	 * positions to the list of that position's cell.
+	 * 
+	 * @param packed: path being stored
+	 * @param path: its positions, unpacked
+	 */
+	void index(PackedPath packed, int[] path) {
+		if (this.freeSlots.isEmpty()) {
+			packed.slot = this.slots.size();
+			this.slots.add(packed);
+		} else {
+			packed.slot = this.freeSlots.pop();
+			this.slots.set(packed.slot, packed);
+		}
+		for (int i = 0; i < path.length; i ++) {
+			int e = this.newEntry();
+			this.owner[e] = packed.slot;
+			this.offset[e] = i;
+			this.next[e] = this.first[path[i]];
+			this.first[path[i]] = e;
+		}
+	}
+
+	/*
+	 * Effect: removes the entries of a dropped path from the lists of its 
+	 * cells, and frees its slot.
+	 * 
+	 * @param packed: path being dropped
+	 */
+	void unindex(PackedPath packed) {
+		int cell = packed.start;
+		for (int i = 0; i < packed.length; i ++) {
+			int prev = -1;
+			int e = this.first[cell];
+			while (this.owner[e] != packed.slot) {
+				prev = e;
+				e = this.next[e];
+			}
+			if (prev < 0) {
+				this.first[cell] = this.next[e];
+			} else {
+				this.next[prev] = this.next[e];
+			}
+			this.next[e] = this.freeEntry;
+			this.freeEntry = e;
+			if (i + 1 < packed.length) {
+				cell = packed.follow(cell, i, this.width);
+			}
+		}
+		this.slots.set(packed.slot, null);
+		this.freeSlots.push(packed.slot);
+	}
+
+	/* A free index entry, growing the entry arrays when none is left. */
+	int newEntry() {
+		if (this.freeEntry >= 0) {
+			int e = this.freeEntry;
+			this.freeEntry = this.next[e];
+			return e;
+		}
+		if (this.entries == this.next.length) {
+			this.next = Arrays.copyOf(this.next, 2 * this.entries);
+			this.owner = Arrays.copyOf(this.owner, 2 * this.entries);
+			this.offset = Arrays.copyOf(this.offset, 2 * this.entries);
+		}
+		return this.entries ++;
+	}
+
+	/*
+	 * Answers from the stored paths if one covers the request, and 
+	 * otherwise runs the search and stores what it finds. Answers from 
+	 * the cache explore no nodes.
+	 * 
+	 * @param solver: solver over the same board
+	 * @param start: position the search leaves from
+	 * @param goal: position the search looks for
+	 * @param search: algorithm to run on a miss
+	 * @return: the path, and nodes explored to find it
+	 */
+	public SearchResult solve(MazeSolver solver, int start, int goal, SearchType search) {
+		int[] path = this.lookup(start, goal);
+		if (path != null) {
+			return new SearchResult(search, path, 0);
+		}
+		SearchResult result = solver.solve(start, goal, search);
+		this.store(result.path);
+		return result;
+	}
+
+	/* How many paths are stored? */
+	public synchronized int count() {
+		return this.paths.size();
+	}
+}
+
+
+/*
+ * The BoardCache class, an instance of which keeps finished boards by 
+ * their MazeId, so a maze asked for again is not generated again. The 
+ * cache holds at most a given number of estimated bytes across all its 
+ * boards, at NODE_BYTES per node: a finished Board with its distance 
+ * field measures about 102 bytes a node, and its SolutionCache keeps up
+ * to 36 more, with its index. When a new board would go over, the 
+ * boards used least recently are dropped until it fits. A board larger
+ * than the whole budget is handed out without being kept. Boards are generated outside the lock, so a 
+ * slow generation holds up no one else; if two threads miss on the same
+ * id at once, the first board stored is the one both get. Cached boards
+ * are shared, so they must only be read, as by MazeSolver, SharedSolver
+ * and DistanceField, never searched through their Nodes.
+ */
+class BoardCache {
+	static final long NODE_BYTES = 144;
+
+	long capacity;
+	long size;
+	LinkedHashMap<MazeId, Board> boards;
+	AtomicLong hits;
+	AtomicLong misses;
+	AtomicLong evictions;
+
+	/*
+	 * Constructor for BoardCache objects, with nothing cached.
+	 * 
+	 * @param capacity: most estimated bytes held across every cached board
+	 */
+	BoardCache(long capacity) {
+		this.capacity = capacity;
+		this.size = 0;
+		this.boards = new LinkedHashMap<MazeId, Board>(16, 0.75f, true);
+		this.hits = new AtomicLong();
+		this.misses = new AtomicLong();
+		this.evictions = new AtomicLong();
+	}
+
+	/*
+	 * Gives the finished board for the given id, from the cache if it is
+	 * there, and otherwise generated and then cached.
+	 * 
+	 * @param id: width, height and seed of the maze
+	 * @return: the generated board
+	 */
+	public Board get(MazeId id) {
+		synchronized (this) {
+			Board cached = this.boards.get(id);
+			if (cached != null) {
+				this.hits.incrementAndGet();
+				return cached;
+			}
+		}
+		this.misses.incrementAndGet();
+		Board board = new Board(id);
+		board.generate();
+		return this.put(id, board);
+	}
+
+	/*
+	 * Effect: keeps the given board, dropping the least recently used 
+	 * boards until it fits.
+	 * 
+	 * @param id: id the board was generated from
+	 * @param board: the generated board
+	 * @return: the board now cached under the id, or the given board if 
+	 *          it is too large to keep
+	 */
+	synchronized Board put(MazeId id, Board board) {
+		Board cached = this.boards.get(id);
+		if (cached != null) {
+			return cached;
+		}
+		long weight = bytes(id);
+		if (weight > this.capacity) {
+			return board;
+		}
+		Iterator<Map.Entry<MazeId, Board>> eldest = this.boards.entrySet().iterator();
+		while (this.size + weight > this.capacity) {
+			MazeId dropped = eldest.next().getKey();
+			eldest.remove();
+			this.size -= bytes(dropped);
+			this.evictions.incrementAndGet();
+		}
+		this.boards.put(id, board);
+		this.size += weight;
+		return board;
+	}
+
+	/* Estimated bytes held by the finished board of the given id. */
+	static long bytes(MazeId id) {
+		return NODE_BYTES * id.width * id.height;
+	}
+
+	/* Is a board for the given id cached? Does not count as a use. */
+	public synchronized boolean contains(MazeId id) {
+		return this.boards.containsKey(id);
+	}
+
+	/* How many boards are cached? */
+	public synchronized int count() {
+		return this.boards.size();
+	}
+}
+
+
+/*
+ * The LatencyHistogram class, an instance of which counts how long 
+ * things took, in nanoseconds, in buckets that widen with the value: 
+ * each power of two is split into eight, so any value is placed within 
+ * an eighth of itself. Counts are atomic, so any number of threads can 
+ * record at once, and the histogram never grows however many values it 
+ * holds.
+ */
+class LatencyHistogram {
+	static final int SUB_BITS = 3;
+	static final int SUB = 1 << SUB_BITS;
+
+	AtomicLongArray counts;
+	AtomicLong total;
+
+	/* Constructor for LatencyHistogram objects, with nothing recorded. */
+	LatencyHistogram() {
+		this.counts = new AtomicLongArray(bucket(Long.MAX_VALUE) + 1);
+		this.total = new AtomicLong();
+	}
+
+	/*
+	 * Finds the bucket a value is counted in.
+	 * 
+	 * @param value: non-negative value to place
+	 * @return: index of its bucket
+	 */
+	static int bucket(long value) {
+		if (value < SUB) {
+			return (int) value;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		return (exponent - SUB_BITS + 1) * SUB + (int) ((value >>> (exponent - SUB_BITS)) & (SUB - 1));
+	}
+
+	/*
+	 * Finds the largest value counted in a bucket.
+	 * 
+	 * @param bucket: index of the bucket
+	 * @return: its upper bound, inclusive
+	 */
+	static long upperBound(int bucket) {
+		if (bucket < SUB) {
+			return bucket;
+		}
+		int exponent = bucket / SUB + SUB_BITS - 1;
+		long step = 1L << (exponent - SUB_BITS);
+		return (SUB + bucket % SUB + 1) * step - 1;
+	}
+
+	/*
+	 * Effect: counts one value.
+	 * 
+	 * @param nanos: time taken, in nanoseconds
+	 */
+	public void record(long nanos) {
+		this.counts.incrementAndGet(bucket(Math.max(0, nanos)));
+		this.total.incrementAndGet();
+	}
+
+	/* How many values have been counted? */
+	public long count() {
+		return this.total.get();
+	}
+
+	/*
+	 * Finds the value that the given share of all values are no greater
+	 * than, rounded up to the end of its bucket.
+	 * 
+	 * @param percent: share of values, from 0 to 100
+	 * @return: the percentile, or 0 if nothing is recorded
+	 */
+	public long percentile(double percent) {
+		long count = this.count();
+		if (count == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(percent / 100 * count));
+		long seen = 0;
+		for (int i = 0; i < this.counts.length(); i ++) {
+			seen += this.counts.get(i);
+			if (seen >= rank) {
+				return upperBound(i);
+			}
+		}
+		return upperBound(this.counts.length() - 1);
+	}
+}
+
+
+/*
+ * The SolveRequest class, an instance of which is one request to the
+ * SolveService: the maze, the two ends and the algorithm, with the 
+ * future its result completes and the time it arrived.
+ */
+class SolveRequest {
+	MazeId maze;
+	int start;
+	int goal;
+	SearchType search;
+	long submitted;
+	CompletableFuture<SearchResult> result;
+
+	/*
+	 * Constructor for SolveRequest objects.
+	 * 
+	 * @param maze: id of the maze to solve
+	 * @param start: position to search from
+	 * @param goal: position to search for
+	 * @param search: algorithm to search with
+	 */
+	SolveRequest(MazeId maze, int start, int goal, SearchType search) {
+		this.maze = maze;
+		this.start = start;
+		this.goal = goal;
+		this.search = search;
+		this.submitted = System.nanoTime();
+		this.result = new CompletableFuture<SearchResult>();
+	}
+}
+
+
+/*
+ * The SolveLane class, an instance of which holds the requests waiting 
+ * on one maze. While it has requests, one virtual thread drains them in
+ * batches, loading the maze's Board once for all of them.
+ */
+class SolveLane {
+	MazeId maze;
+	ConcurrentLinkedQueue<SolveRequest> waiting;
+	boolean running;
+	Board board;
+	MazeSolver solver;
+
+	/*
+	 * Constructor for SolveLane objects.
+	 * 
+	 * @param maze: id of the maze its requests are for
+	 */
+	SolveLane(MazeId maze) {
+		this.maze = maze;
+		this.waiting = new ConcurrentLinkedQueue<SolveRequest>();
+		this.running = false;
+		this.board = null;
+		this.solver = null;
+	}
+}
+
+
+/*
+ * The SolveService class, an instance of which answers solve requests 
+ * for any number of mazes named by MazeId, on virtual threads. Requests
+ * for the same maze are coalesced: they wait in that maze's lane, and 
+ * one virtual thread drains the lane in batches, taking the Board from
+ * a BoardCache once, and reusing one MazeSolver, the Board's distance
+ * field and its cache of solved paths for every request of every batch,
+ * until the lane runs dry. The BoardCache keeps the Board, with its 
+ * distance field and solved paths, for when the maze is asked for 
+ * again. Requests whose goal is the Board's target are answered from 
+ * the distance field with no search, and report no nodes explored. Lanes for different mazes run
+ * at once. The time from each request's arrival to its answer goes into
+ * a histogram, for latency percentiles.
+ */
+class SolveService implements AutoCloseable {
+	ExecutorService workers;
+	ConcurrentHashMap<MazeId, SolveLane> lanes;
+	BoardCache boards;
+	LatencyHistogram latency;
+	AtomicLong batches;
+	AtomicLong loads;
+
+	/*
+	 * Constructor for SolveService objects, with no lanes open.
+	 * 
+	 * @param boards: cache the lanes take their boards from
+	 */
+	SolveService(BoardCache boards) {
+		this.workers = Executors.newVirtualThreadPerTaskExecutor();
+		this.lanes = new ConcurrentHashMap<MazeId, SolveLane>();
+		this.boards = boards;
+		this.latency = new LatencyHistogram();
+		this.batches = new AtomicLong();
+		this.loads = new AtomicLong();
+	}
+
+	/* Convenience constructor, caching boards in up to a quarter of the heap. */
+	SolveService() {
+		this(new BoardCache(Runtime.getRuntime().maxMemory() / 4));
+	}
+
+	/*
+	 * Queues a request on its maze's lane, starting the lane if it is idle.
+	 * 
+	 * @param maze: id of the maze to solve
+	 * @param start: position to search from
+	 * @param goal: position to search for
+	 * @param search: any search algorithm, one-way or bidirectional
+	 * @return: future completed with the result
+	 */
+	public CompletableFuture<SearchResult> submit(MazeId maze, int start, int goal, SearchType search) {
+		SolveRequest request = new SolveRequest(maze, start, goal, search);
+		boolean[] idle = new boolean[1];
+		SolveLane lane = this.lanes.compute(maze, (id, open) -> {
+			SolveLane queued = open == null ? new SolveLane(id) : open;
+			queued.waiting.add(request);
+			idle[0] = !queued.running;
+			queued.running = true;
+			return queued;
+		});
+		if (idle[0]) {
+			try {
+				this.workers.execute(() -> this.drain(lane));
+			} catch (RejectedExecutionException e) {
+				this.abandon(lane, new ArrayList<SolveRequest>(), e);
+			}
+		}
+		return request.result;
+	}
+
+	/*
+	 * Solves a request and waits for the answer, for in-process clients.
+	 * 
+	 * @param maze: id of the maze to solve
+	 * @param start: position to search from
+	 * @param goal: position to search for
+	 * @param search: any search algorithm, one-way or bidirectional
+	 * @return: the path found and the number of nodes explored
+	 */
+	public SearchResult solve(MazeId maze, int start, int goal, SearchType search) {
+		return this.submit(maze, start, goal, search).join();
+	}
+
+	/*
+	 * Effect: answers a lane's requests batch by batch until none are 
+	 * left, then closes the lane. A request that arrives while the lane 
+	 * closes either sees it still open or opens a new one. If draining 
+	 * fails, the lane is abandoned, so later requests open a new one.
+	 * 
+	 * @param lane: lane to drain
+	 */
+	void drain(SolveLane lane) {
+		ArrayList<SolveRequest> batch = new ArrayList<SolveRequest>();
+		try {
+			boolean open = true;
+			while (open) {
+				for (SolveRequest next = lane.waiting.poll(); next != null; next = lane.waiting.poll()) {
+					batch.add(next);
+				}
+				if (!batch.isEmpty()) {
+					this.batches.incrementAndGet();
+					for (SolveRequest request : batch) {
+						this.answer(lane, request);
+					}
+					batch.clear();
+				}
+				SolveLane still = this.lanes.compute(lane.maze, (id, current) -> {
+					if (current != lane || !lane.waiting.isEmpty()) {
+						return current;
+					}
+					lane.running = false;
+					return null;
+				});
+				open = still == lane;
+			}
+		} catch (Throwable e) {
+			this.abandon(lane, batch, e);
+			throw e;
+		}
+	}
+
+	/*
+	 * Effect: closes a lane that can no longer be drained, failing every
+	 * request still in its batch or waiting in it. Requests that arrive 
+	 * after open a new lane.
+	 * 
+	 * @param lane: lane to close
+	 * @param batch: requests taken from the lane, answered or not
+	 * @param cause: why the lane could not be drained
+	 */
+	void abandon(SolveLane lane, ArrayList<SolveRequest> batch, Throwable cause) {
+		this.lanes.compute(lane.maze, (id, current) -> current == lane ? null : current);
+		lane.running = false;
+		for (SolveRequest request : batch) {
+			request.result.completeExceptionally(cause);
+		}
+		for (SolveRequest next = lane.waiting.poll(); next != null; next = lane.waiting.poll()) {
+			next.result.completeExceptionally(cause);
+		}
+	}
+
+	/*
+	 * Effect: completes one request, loading the lane's maze first if needed.
+	 * Whatever the request throws fails its own future; an Error is then
+	 * thrown on, so the lane is abandoned rather than tried again.
+	 * 
+	 * @param lane: lane the request waited in
+	 * @param request: request to answer
+	 */
+	void answer(SolveLane lane, SolveRequest request) {
+		try {
+			if (lane.board == null) {
+				lane.board = this.boards.get(lane.maze);
+				lane.board.distanceField();
+				lane.solver = new MazeSolver(lane.board);
+				this.loads.incrementAndGet();
+			}
+			if (request.search == SearchType.INACTIVE || request.search == SearchType.USER) {
+				throw new IllegalArgumentException("Not a search algorithm: " + request.search);
+			}
+			int size = lane.maze.width * lane.maze.height;
+			if (request.start < 0 || request.start >= size || request.goal < 0 || request.goal >= size) {
+				throw new IllegalArgumentException("Position out of maze " + lane.maze 
+						+ ": " + request.start + " to " + request.goal);
+			}
+			SearchResult result;
+			DistanceField field = lane.board.distanceField();
+			if (request.goal == field.target) {
+				result = new SearchResult(request.search, field.pathFrom(request.start), 0);
+			} else {
+				result = lane.board.solutions().solve(lane.solver, request.start, request.goal, request.search);
+			}
+			this.latency.record(System.nanoTime() - request.submitted);
+			request.result.complete(result);
+		} catch (Throwable e) {
+			this.latency.record(System.nanoTime() - request.submitted);
+			request.result.completeExceptionally(e);
+			if (e instanceof Error) {
+				throw (Error) e;
+			}
+		}
+	}
+
+	/* Effect: stops taking work once every queued request is answered. */
+	public void close() {
+		this.workers.close();
+	}
+}
+
+
+/*
+ * The SearchMetrics class, an instance of which is the record of one 
+ * search run: the algorithm, the maze size, the nodes expanded, the most
+ * nodes waiting in the frontier at once, the length of the path found, 
+ * the wall-clock time taken and the bytes allocated on the way, or -1 
+ * if the JVM cannot count them. Records are written out by the sinks 
+ * as CSV rows or JSON lines.
+ */
+class SearchMetrics {
+	static final String CSV_HEADER = "algorithm,width,height,expansions,"
+			+ "frontier_peak,path_length,wall_nanos,allocated_bytes";
+
+	SearchType search;
+	int width;
+	int height;
+	int expansions;
+	int frontierPeak;
+	int pathLength;
+	long wallNanos;
+	long allocatedBytes;
+
+	/*
+	 * Constructor for SearchMetrics objects.
+	 * 
+	 * @param search: algorithm that ran
+	 * @param width: width of the maze, in number of nodes
+	 * @param height: height of the maze, in number of nodes
+	 * @param expansions: nodes the search explored
+	 * @param frontierPeak: most nodes waiting to be explored at once
+	 * @param pathLength: nodes on the path found, 0 if none was
+	 * @param wallNanos: wall-clock time of the run, in nanoseconds
+	 * @param allocatedBytes: bytes allocated by the run, -1 if unknown
+	 */
+	SearchMetrics(SearchType search, int width, int height, int expansions, 
+			int frontierPeak, int pathLength, long wallNanos, long allocatedBytes) {
+		this.search = search;
+		this.width = width;
+		this.height = height;
+		this.expansions = expansions;
+		this.frontierPeak = frontierPeak;
+		this.pathLength = pathLength;
+		this.wallNanos = wallNanos;
+		this.allocatedBytes = allocatedBytes;
+	}
+
+	/* Writes this record as one CSV row, in the order of CSV_HEADER. */
+	public String toCsv() {
+		return this.search + "," + this.width + "," + this.height + "," + this.expansions 
+				+ "," + this.frontierPeak + "," + this.pathLength + "," + this.wallNanos 
+				+ "," + this.allocatedBytes;
+	}
+
+	/* Writes this record as one JSON object, on one line. */
+	public String toJson() {
+		return "{\"algorithm\":\"" + this.search + "\",\"width\":" + this.width 
+				+ ",\"height\":" + this.height + ",\"expansions\":" + this.expansions 
+				+ ",\"frontier_peak\":" + this.frontierPeak + ",\"path_length\":" + this.pathLength 
+				+ ",\"wall_nanos\":" + this.wallNanos + ",\"allocated_bytes\":" + this.allocatedBytes + "}";
+	}
+}
+
+
+/*
+ * The SearchMeter class, an instance of which measures one search run 
+ * from the moment it is made. The wall clock runs throughout; bytes are
+ * counted by the JVM's per-thread allocation counter only while the 
+ * meter is resumed, so a search spread over many calls, like one step 
+ * per tick in MazeWorld, counts its own work and not what happens 
+ * between the calls. Resume and pause must come from the same thread.
+ */
+class SearchMeter {
+	static final com.sun.management.ThreadMXBean THREADS = threads();
+
+	long started;
+	long allocated;
+	long resumedAt;
+	boolean unknown;
+	int frontierPeak;
+
+	/* Constructor for SearchMeter objects, starting the clock, paused. */
+	SearchMeter() {
+		this.started = System.nanoTime();
+		this.allocated = 0;
+		this.resumedAt = -1;
+		this.unknown = false;
+		this.frontierPeak = 0;
+	}
+
+	/* The JVM's allocation counter, or null if it does not keep one. */
+	static com.sun.management.ThreadMXBean threads() {
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (bean instanceof com.sun.management.ThreadMXBean) {
+			com.sun.management.ThreadMXBean counting = (com.sun.management.ThreadMXBean) bean;
+			if (counting.isThreadAllocatedMemorySupported() && counting.isThreadAllocatedMemoryEnabled()) {
+				return counting;
+			}
+		}
+		return null;
+	}
+
+	/* Bytes allocated by the current thread so far, or -1 if unknown. */
+	static long allocatedNow() {
+		return THREADS == null ? -1 : THREADS.getCurrentThreadAllocatedBytes();
+	}
+
+	/*
+	 * Effect: starts counting the current thread's allocations, or marks
+	 * the count unknown if the thread has no counter, as on a virtual thread.
+	 */
+	public void resume() {
+		this.resumedAt = allocatedNow();
+		this.unknown |= this.resumedAt < 0;
+	}
+
+	/* Effect: adds the allocations since resume, and stops counting. */
+	public void pause() {
+		if (this.resumedAt >= 0) {
+			long now = allocatedNow();
+			if (now < 0) {
+				this.unknown = true;
+			} else {
+				this.allocated += now - this.resumedAt;
+			}
+			this.resumedAt = -1;
+		}
+	}
+
+	/*
+	 * Effect: notes the frontier size, keeping the largest seen.
+	 * 
+	 * @param size: nodes waiting to be explored right now
+	 */
+	public void frontier(int size) {
+		this.frontierPeak = Math.max(this.frontierPeak, size);
+	}
+
+	/*
+	 * Stops the meter and gives the record of the run.
+	 * 
+	 * @param search: algorithm that ran
+	 * @param width: width of the maze, in number of nodes
+	 * @param height: height of the maze, in number of nodes
+	 * @param expansions: nodes the search explored
+	 * @param pathLength: nodes on the path found, 0 if none was
+	 * @return: the run's metrics
+	 */
+	public SearchMetrics finish(SearchType search, int width, int height, int expansions, int pathLength) {
+		this.pause();
+		return new SearchMetrics(search, width, height, expansions, this.frontierPeak, pathLength,
+				System.nanoTime() - this.started, THREADS == null || this.unknown ? -1 : this.allocated);
+	}
+
+	/*
+	 * Runs one search under a meter, recording its metrics to the sink.
+	 * 
+	 * @param solver: solver over the maze
+	 * @param start: position to search from
+	 * @param goal: position to search for
+	 * @param search: algorithm to run
+	 * @param sink: where the record goes
+	 * @return: the result of the search
+	 */
+	static SearchResult solve(MazeSolver solver, int start, int goal, SearchType search, IMetricsSink sink) {
+		SearchMeter meter = new SearchMeter();
+		meter.resume();
+		SearchResult result = solver.solve(start, goal, search);
+		meter.frontier(result.frontier);
+		sink.record(meter.finish(search, solver.maze.width(), solver.maze.height(), 
+				result.explored, result.path.length));
+		return result;
+	}
+}
+
+
+/*
+ * The interface IMetricsSink defines where the records of search runs 
+ * go. Sinks may be handed records from many threads at once.
+ */
+interface IMetricsSink {
+
+	/* Effect: takes in the record of one search run. */
+	void record(SearchMetrics run);
+}
+
+
+/*
+ * The HistogramSink class, an instance of which keeps the records of 
+ * search runs in memory as LatencyHistograms, one of each measure per 
+ * algorithm, so percentiles of time, expansions, frontier peak and 
+ * allocation can be read at any point without keeping every record.
+ */
+class HistogramSink implements IMetricsSink {
+	EnumMap<SearchType, LatencyHistogram> wallNanos;
+	EnumMap<SearchType, LatencyHistogram> expansions;
+	EnumMap<SearchType, LatencyHistogram> frontierPeak;
+	EnumMap<SearchType, LatencyHistogram> allocatedBytes;
+
+	/* Constructor for HistogramSink objects, with nothing recorded. */
+	HistogramSink() {
+		this.wallNanos = histograms();
+		this.expansions = histograms();
+		this.frontierPeak = histograms();
+		this.allocatedBytes = histograms();
+	}
+
+	/* One empty histogram per algorithm, all made up front so reads need no lock. */
+	static EnumMap<SearchType, LatencyHistogram> histograms() {
+		EnumMap<SearchType, LatencyHistogram> map = new EnumMap<SearchType, LatencyHistogram>(SearchType.class);
+		for (SearchType search : SearchType.values()) {
+			map.put(search, new LatencyHistogram());
+		}
+		return map;
+	}
+
+	/* Effect: counts the run in each histogram of its algorithm. */
+	public void record(SearchMetrics run) {
+		this.wallNanos.get(run.search).record(run.wallNanos);
+		this.expansions.get(run.search).record(run.expansions);
+		this.frontierPeak.get(run.search).record(run.frontierPeak);
+		if (run.allocatedBytes >= 0) {
+			this.allocatedBytes.get(run.search).record(run.allocatedBytes);
+		}
+	}
+
+	/* How many runs of the given algorithm have been recorded? */
+	public long count(SearchType search) {
+		return this.wallNanos.get(search).count();
+	}
+}
+
+
+/*
+ * The CsvSink class, an instance of which writes the records of search 
+ * runs as CSV rows, after a header row written before the first.
+ */
+class CsvSink implements IMetricsSink {
+	Appendable out;
+	boolean started;
+
+	/*
+	 * Constructor for CsvSink objects.
+	 * 
+	 * @param out: where the rows are written
+	 */
+	CsvSink(Appendable out) {
+		this.out = out;
+		this.started = false;
+	}
+
+	/* Effect: writes the run as one row, and the header first if needed. */
+	public synchronized void record(SearchMetrics run) {
+		try {
+			if (!this.started) {
+				this.out.append(SearchMetrics.CSV_HEADER).append('\n');
+				this.started = true;
+			}
+			this.out.append(run.toCsv()).append('\n');
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
+
+
+/*
+ * The JsonLinesSink class, an instance of which writes the records of 
+ * search runs as JSON lines, one object per run.
+ */
+class JsonLinesSink implements IMetricsSink {
+	Appendable out;
+
+	/*
+	 * Constructor for JsonLinesSink objects.
+	 * 
+	 * @param out: where the lines are written
+	 */
+	JsonLinesSink(Appendable out) {
+		this.out = out;
+	}
+
+	/* Effect: writes the run as one line. */
+	public synchronized void record(SearchMetrics run) {
+		try {
+			this.out.append(run.toJson()).append('\n');
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,2290 @@
+/*
+ * ExamplesMazes.java
+ * Originally part of Mazes.java
+ *
+ * @author: Owen Mathay
+ * 
+ */
+
+package pathfinder;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import tester.*;
+
+
+/*
+ * The ExamplesMazes class contains examples and tests for all
+ * methods of the Edge, Barrier, Node, and Board classes, as well
+ * as those for the solvers and other classes of the maze core.
+ * 
+ * All methods but initData have a parameter of Tester t 
+ * to call  test methods from NEU's imported tester.jar.
+ */
+class ExamplesMazes implements IGameConstants {
+
+	Board testBoard;
+	Board testBoard1x2;
+
+	Barrier bar;
+	Node n1;
+	Node n1_1;
+	Node n2;
+	Node n3;
+	Node n4;
+
+	Node nUpd1;
+	Node nUpd2;
+
+	Edge e1;
+	Edge e2;
+	Edge e3;
+	Edge e4;
+
+	ArrayList<Edge> e_list;
+
+	Board board;
+
+	/* Initializes example data so each test can occur on uniform data. */
+	void initData() {
+		this.testBoard = new Board(5, 5, true);
+		this.testBoard1x2 = new Board(1, 2, true);
+
+		this.bar = new Barrier();
+
+		this.n1 = new Node(0, 0, 0, false, bar, bar, bar, bar);
+		this.n1_1 = new Node(1, 0, 0, false, bar, bar, bar, bar);
+		this.n2 = new Node(1, 0, 1, false, bar, bar, bar, bar);
+		this.n3 = new Node(0, 1, 2, false, bar, bar, bar, bar);
+		this.n4 = new Node(1, 1, 3, false, bar, bar, bar, bar);
+
+		this.nUpd1 = new Node(2, 1, 5, false, bar, bar, bar, bar);
+		this.nUpd2 = new Node(2, 2, 8, false, bar, bar, this.nUpd1, bar);
+		this.nUpd1.bottom = this.nUpd2;
+
+		this.e1 = new Edge(n1, n2, 10);
+		this.e2 = new Edge(n1, n3, 20);
+		this.e3 = new Edge(n2, n4, 40);
+		this.e4 = new Edge(n3, n4, 30);
+
+		this.e_list = new ArrayList<Edge>();
+		this.e_list.add(e1);
+		this.e_list.add(e2);
+		this.e_list.add(e3);
+		this.e_list.add(e4);
+
+		this.board = new Board(2, 2, true);
+
+	}
+
+
+	/* Tests on IGamePiece objects and methods occupy lines 1216 through 1716 */
+
+
+	/* Tests the SameCode method for IGamePiece objects */
+	void testSameCode(Tester t) {
+
+		this.initData();
+		t.checkExpect(this.n1.sameCode(bar), false);
+		t.checkExpect(this.n2.sameCode(bar), false);
+		t.checkExpect(this.n3.sameCode(bar), false);
+		t.checkExpect(this.n4.sameCode(bar), false);
+
+		t.checkExpect(this.bar.sameCode(this.n1), false);
+		t.checkExpect(this.bar.sameCode(this.bar), false);
+
+		t.checkExpect(this.n1.sameCode(this.n1_1), true);
+		t.checkExpect(this.n2.sameCode(this.n1_1), false);
+		t.checkExpect(this.n3.sameCode(this.n1_1), false);
+		t.checkExpect(this.n4.sameCode(this.n1_1), false);
+
+		t.checkExpect(this.n1_1.sameCode(this.n1), true);
+		t.checkExpect(this.n1_1.sameCode(this.n2), false);
+		t.checkExpect(this.n1_1.sameCode(this.n3), false);
+		t.checkExpect(this.n1_1.sameCode(this.n4), false);
+
+	}
+
+	/* Tests the SameCodeHelper method */
+	void testSameCodeHelper(Tester t) {
+		this.initData();
+		t.checkExpect(this.bar.sameCodeHelper(this.n1), false);
+		t.checkExpect(this.bar.sameCodeHelper(this.n2), false);
+		t.checkExpect(this.bar.sameCodeHelper(this.n3), false);
+		t.checkExpect(this.bar.sameCodeHelper(this.n4), false);
+
+		t.checkExpect(this.n1.sameCodeHelper(this.n1_1), true);
+		t.checkExpect(this.n1_1.sameCodeHelper(this.n1), true);
+		t.checkExpect(this.n1_1.sameCodeHelper(this.n2), false);
+		t.checkExpect(this.n1_1.sameCodeHelper(this.n3), false);
+		t.checkExpect(this.n1_1.sameCodeHelper(this.n4), false);
+
+	}
+
+	/* Tests the updateSet method */
+	void testUpdateSet(Tester t) {
+		this.initData();
+
+		t.checkExpect(this.n1.code, 0);
+		t.checkExpect(this.n2.code, 1);
+		this.n1.updateSet(this.n2);
+		t.checkExpect(this.n1.code, this.n2.code);
+
+		t.checkExpect(this.n3.code, 2);
+		t.checkExpect(this.n4.code, 3);
+		this.n3.updateSet(this.n4);
+
+		this.initData();
+		t.checkExpect(this.n1.code, 0);
+		t.checkExpect(this.n3.code, 2);
+		this.n3.updateSet(this.n1);
+		t.checkExpect(this.n1.code, this.n3.code);
+
+		t.checkExpect(this.n2.code, 1);
+		t.checkExpect(this.n4.code, 3);
+		t.checkExpect(this.n2.sameCode(this.n4), false);
+		this.n2.updateSet(this.n4);
+		t.checkExpect(this.n2.code, this.n4.code);
+	}
+
+	/* Tests the updateSetHelper method */
+	void testUpdateSetHelper(Tester t) {
+		this.initData();
+		t.checkExpect(this.nUpd1.code, 5);
+		t.checkExpect(this.nUpd2.code, 8);
+		this.nUpd1.updateSetHelper(this.nUpd2);
+		t.checkExpect(this.nUpd1.sameCode(this.nUpd2), true);
+		t.checkExpect(this.nUpd2.sameCode(this.nUpd1), true);
+		t.checkExpect(this.nUpd1.code, 5);
+		t.checkExpect(this.nUpd2.code, 5);
+
+		this.initData();
+		t.checkExpect(this.nUpd1.code, 5);
+		t.checkExpect(this.nUpd2.code, 8);
+		this.nUpd2.updateSetHelper(this.nUpd1);
+		t.checkExpect(this.nUpd1.sameCode(this.nUpd2), true);
+		t.checkExpect(this.nUpd2.sameCode(this.nUpd1), true);
+		t.checkExpect(this.nUpd1.code, 8);
+		t.checkExpect(this.nUpd2.code, 8);
+	}
+
+	/* Tests the updateNeighborCode method */
+	void testUpdateNeighborCode(Tester t) {
+		this.initData();
+		t.checkExpect(this.nUpd1.code, 5);
+		t.checkExpect(this.nUpd2.code, 8);
+		this.nUpd1.updateNeighborCode(this.nUpd1.code, this.nUpd2.code);
+		t.checkExpect(this.nUpd1.sameCode(this.nUpd2), true);
+		t.checkExpect(this.nUpd2.sameCode(this.nUpd1), true);
+		t.checkExpect(this.nUpd1.code, 8);
+		t.checkExpect(this.nUpd2.code, 8);
+
+		this.initData();
+		t.checkExpect(this.nUpd1.code, 5);
+		t.checkExpect(this.nUpd2.code, 8);
+		this.nUpd1.updateNeighborCode(this.nUpd2.code, this.nUpd1.code);
+		t.checkExpect(this.nUpd1.sameCode(this.nUpd2), false);
+		t.checkExpect(this.nUpd2.sameCode(this.nUpd1), false);
+		t.checkExpect(this.nUpd1.code, 5);
+		t.checkExpect(this.nUpd2.code, 8);
+
+		this.initData();
+		t.checkExpect(this.nUpd1.code, 5);
+		t.checkExpect(this.nUpd2.code, 8);
+		this.nUpd2.updateNeighborCode(this.nUpd2.code, this.nUpd1.code);
+		t.checkExpect(this.nUpd1.sameCode(this.nUpd2), true);
+		t.checkExpect(this.nUpd2.sameCode(this.nUpd1), true);
+		t.checkExpect(this.nUpd1.code, 5);
+		t.checkExpect(this.nUpd2.code, 5);
+
+		this.initData();
+		t.checkExpect(this.nUpd1.code, 5);
+		t.checkExpect(this.nUpd2.code, 8);
+		this.nUpd2.updateNeighborCode(this.nUpd1.code, this.nUpd2.code);
+		t.checkExpect(this.nUpd1.sameCode(this.nUpd2), false);
+		t.checkExpect(this.nUpd2.sameCode(this.nUpd1), false);
+		t.checkExpect(this.nUpd1.code, 5);
+		t.checkExpect(this.nUpd2.code, 8);
+
+	}
+
+	/* Tests the overridesDraw method */
+	void testOverridesDraw(Tester t) {
+
+		this.initData();
+		t.checkExpect(this.n1.overridesDraw(), false);
+		t.checkExpect(this.n2.overridesDraw(), false);
+		t.checkExpect(this.n3.overridesDraw(), false);
+		t.checkExpect(this.n4.overridesDraw(), false);
+		t.checkExpect(this.bar.overridesDraw(), true);
+
+	}
+
+	/* Tests the updateRight method */
+	void testUpdateRight(Tester t) {
+
+		this.initData();
+		t.checkExpect(this.n1.right, this.bar);
+		t.checkExpect(this.n2.left, this.bar);
+		this.n1.updateRight(this.n2);
+		t.checkExpect(this.n1.right, this.n2);
+		t.checkExpect(this.n2.left, this.n1);
+
+	}
+
+	/* Tests the updateBottom method */
+	void testUpdateBottom(Tester t) {
+
+		this.initData();
+		t.checkExpect(this.n1.bottom, this.bar);
+		t.checkExpect(this.n3.top, this.bar);
+		this.n1.updateBottom(this.n3);
+		t.checkExpect(this.n1.bottom, this.n3);
+		t.checkExpect(this.n3.top, this.n1);
+
+	}
+
+	/* Tests the getAllNeighbors method. */
+	void testGetAllNeighbors(Tester t) {
+
+		this.initData();
+		t.checkExpect(this.n1.getAllNeighbors(this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n2.getAllNeighbors(this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n3.getAllNeighbors(this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n4.getAllNeighbors(this.e_list), new ArrayList<Node>());
+
+		this.n1.updateBottom(this.n3);
+		this.n1.updateRight(this.n2);
+		this.n2.updateBottom(this.n4);
+		this.n3.updateRight(this.n4);
+
+		t.checkExpect(this.n1.getAllNeighbors(this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n2.getAllNeighbors(this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n3.getAllNeighbors(this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n4.getAllNeighbors(this.e_list), new ArrayList<Node>());
+
+		this.e_list.remove(0);
+		t.checkExpect(this.n1.getAllNeighbors(this.e_list), new ArrayList<Node>(Arrays.asList(this.n2)));
+		t.checkExpect(this.n2.getAllNeighbors(this.e_list), new ArrayList<Node>(Arrays.asList(this.n1)));
+
+		this.e_list.remove(0);
+		t.checkExpect(this.n1.getAllNeighbors(this.e_list), new ArrayList<Node>(Arrays.asList(this.n2, this.n3)));
+		t.checkExpect(this.n3.getAllNeighbors(this.e_list), new ArrayList<Node>(Arrays.asList(this.n1)));
+
+		this.e_list.remove(0);
+		t.checkExpect(this.n1.getAllNeighbors(this.e_list), new ArrayList<Node>(Arrays.asList(this.n2, this.n3)));
+		t.checkExpect(this.n2.getAllNeighbors(this.e_list), new ArrayList<Node>(Arrays.asList(this.n1, this.n4)));
+		t.checkExpect(this.n3.getAllNeighbors(this.e_list), new ArrayList<Node>(Arrays.asList(this.n1)));
+		t.checkExpect(this.n4.getAllNeighbors(this.e_list), new ArrayList<Node>(Arrays.asList(this.n2)));
+
+		this.e_list.remove(0);
+		t.checkExpect(this.n3.getAllNeighbors(this.e_list), new ArrayList<Node>(Arrays.asList(this.n4, this.n1)));
+		t.checkExpect(this.n4.getAllNeighbors(this.e_list), new ArrayList<Node>(Arrays.asList(this.n3, this.n2)));
+
+	}
+
+	/* Tests the getAllNeighborsPlayer method, which doesn't discriminate against visited nodes. */
+	void testGetAllNeighborsPlayer(Tester t) {
+
+		this.initData();
+		t.checkExpect(this.n1.getAllNeighborsPlayer(this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n2.getAllNeighborsPlayer(this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n3.getAllNeighborsPlayer(this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n4.getAllNeighborsPlayer(this.e_list), new ArrayList<Node>());
+
+		this.n1.updateBottom(this.n3);
+		this.n1.updateRight(this.n2);
+		this.n2.updateBottom(this.n4);
+		this.n3.updateRight(this.n4);
+		this.n1.visited = true;
+		this.n2.visited = true;
+		this.n3.visited = true;
+		this.n4.visited = true;
+
+
+		t.checkExpect(this.n1.getAllNeighborsPlayer(this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n2.getAllNeighborsPlayer(this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n3.getAllNeighborsPlayer(this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n4.getAllNeighborsPlayer(this.e_list), new ArrayList<Node>());
+
+		this.e_list.remove(0);
+		t.checkExpect(this.n1.getAllNeighborsPlayer(this.e_list), new ArrayList<Node>(Arrays.asList(this.n2)));
+		t.checkExpect(this.n2.getAllNeighborsPlayer(this.e_list), new ArrayList<Node>(Arrays.asList(this.n1)));
+
+		this.e_list.remove(0);
+		t.checkExpect(this.n1.getAllNeighborsPlayer(this.e_list), new ArrayList<Node>(Arrays.asList(this.n2, this.n3)));
+		t.checkExpect(this.n3.getAllNeighborsPlayer(this.e_list), new ArrayList<Node>(Arrays.asList(this.n1)));
+
+		this.e_list.remove(0);
+		t.checkExpect(this.n1.getAllNeighborsPlayer(this.e_list), new ArrayList<Node>(Arrays.asList(this.n2, this.n3)));
+		t.checkExpect(this.n2.getAllNeighborsPlayer(this.e_list), new ArrayList<Node>(Arrays.asList(this.n1, this.n4)));
+		t.checkExpect(this.n3.getAllNeighborsPlayer(this.e_list), new ArrayList<Node>(Arrays.asList(this.n1)));
+		t.checkExpect(this.n4.getAllNeighborsPlayer(this.e_list), new ArrayList<Node>(Arrays.asList(this.n2)));
+
+		this.e_list.remove(0);
+		t.checkExpect(this.n3.getAllNeighborsPlayer(this.e_list), new ArrayList<Node>(Arrays.asList(this.n4, this.n1)));
+		t.checkExpect(this.n4.getAllNeighborsPlayer(this.e_list), new ArrayList<Node>(Arrays.asList(this.n3, this.n2)));
+	}
+
+	/* Tests the getNeighborsHelper method. */
+	void testGetNeighborsHelper(Tester t) {
+
+		this.initData();
+		this.n1.updateBottom(this.n3);
+		this.n1.updateRight(this.n2);
+		this.n2.updateBottom(this.n4);
+		this.n3.updateRight(this.n4);
+
+
+		t.checkExpect(this.n1.getNeighborsHelper(this.n2, this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n1.getNeighborsHelper(this.n3, this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n2.getNeighborsHelper(this.n1, this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n2.getNeighborsHelper(this.n4, this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n3.getNeighborsHelper(this.n1, this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n3.getNeighborsHelper(this.n4, this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n4.getNeighborsHelper(this.n2, this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n4.getNeighborsHelper(this.n3, this.e_list), new ArrayList<Node>());
+
+		this.e_list.remove(0);
+		t.checkExpect(this.n1.getNeighborsHelper(this.n2, this.e_list), new ArrayList<Node>(Arrays.asList(this.n1)));
+		t.checkExpect(this.n1.getNeighborsHelper(this.n3, this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n2.getNeighborsHelper(this.n1, this.e_list), new ArrayList<Node>(Arrays.asList(this.n2)));
+		t.checkExpect(this.n2.getNeighborsHelper(this.n4, this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n3.getNeighborsHelper(this.n1, this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n3.getNeighborsHelper(this.n4, this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n4.getNeighborsHelper(this.n2, this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n4.getNeighborsHelper(this.n3, this.e_list), new ArrayList<Node>());
+
+		this.e_list.remove(0);
+		t.checkExpect(this.n1.getNeighborsHelper(this.n2, this.e_list), new ArrayList<Node>(Arrays.asList(this.n1)));
+		t.checkExpect(this.n1.getNeighborsHelper(this.n3, this.e_list), new ArrayList<Node>(Arrays.asList(this.n1)));
+		t.checkExpect(this.n2.getNeighborsHelper(this.n1, this.e_list), new ArrayList<Node>(Arrays.asList(this.n2)));
+		t.checkExpect(this.n2.getNeighborsHelper(this.n4, this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n3.getNeighborsHelper(this.n1, this.e_list), new ArrayList<Node>(Arrays.asList(this.n3)));
+		t.checkExpect(this.n3.getNeighborsHelper(this.n4, this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n4.getNeighborsHelper(this.n2, this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n4.getNeighborsHelper(this.n3, this.e_list), new ArrayList<Node>());
+
+		this.e_list.remove(0);
+		t.checkExpect(this.n1.getNeighborsHelper(this.n2, this.e_list), new ArrayList<Node>(Arrays.asList(this.n1)));
+		t.checkExpect(this.n1.getNeighborsHelper(this.n3, this.e_list), new ArrayList<Node>(Arrays.asList(this.n1)));
+		t.checkExpect(this.n2.getNeighborsHelper(this.n1, this.e_list), new ArrayList<Node>(Arrays.asList(this.n2)));
+		t.checkExpect(this.n2.getNeighborsHelper(this.n4, this.e_list), new ArrayList<Node>(Arrays.asList(this.n2)));
+		t.checkExpect(this.n3.getNeighborsHelper(this.n1, this.e_list), new ArrayList<Node>(Arrays.asList(this.n3)));
+		t.checkExpect(this.n3.getNeighborsHelper(this.n4, this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n4.getNeighborsHelper(this.n2, this.e_list), new ArrayList<Node>(Arrays.asList(this.n4)));
+		t.checkExpect(this.n4.getNeighborsHelper(this.n3, this.e_list), new ArrayList<Node>());
+
+		this.e_list.remove(0);
+		t.checkExpect(this.n1.getNeighborsHelper(this.n2, this.e_list), new ArrayList<Node>(Arrays.asList(this.n1)));
+		t.checkExpect(this.n1.getNeighborsHelper(this.n3, this.e_list), new ArrayList<Node>(Arrays.asList(this.n1)));
+		t.checkExpect(this.n2.getNeighborsHelper(this.n1, this.e_list), new ArrayList<Node>(Arrays.asList(this.n2)));
+		t.checkExpect(this.n2.getNeighborsHelper(this.n4, this.e_list), new ArrayList<Node>(Arrays.asList(this.n2)));
+		t.checkExpect(this.n3.getNeighborsHelper(this.n1, this.e_list), new ArrayList<Node>(Arrays.asList(this.n3)));
+		t.checkExpect(this.n3.getNeighborsHelper(this.n4, this.e_list), new ArrayList<Node>(Arrays.asList(this.n3)));
+		t.checkExpect(this.n4.getNeighborsHelper(this.n2, this.e_list), new ArrayList<Node>(Arrays.asList(this.n4)));
+		t.checkExpect(this.n4.getNeighborsHelper(this.n3, this.e_list), new ArrayList<Node>(Arrays.asList(this.n4)));
+
+	}
+
+	/* Tests the getNeighborsHelper method, which doesn't discriminate against visited nodes. */
+	void testGetNeighborsHelperPlayer(Tester t) {
+
+		this.initData();
+		this.n1.updateBottom(this.n3);
+		this.n1.updateRight(this.n2);
+		this.n2.updateBottom(this.n4);
+		this.n3.updateRight(this.n4);
+		this.n1.visited = true;
+		this.n2.visited = true;
+		this.n3.visited = true;
+		this.n4.visited = true;
+
+		t.checkExpect(this.n1.getNeighborsHelperPlayer(this.n2, this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n1.getNeighborsHelperPlayer(this.n3, this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n2.getNeighborsHelperPlayer(this.n1, this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n2.getNeighborsHelperPlayer(this.n4, this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n3.getNeighborsHelperPlayer(this.n1, this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n3.getNeighborsHelperPlayer(this.n4, this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n4.getNeighborsHelperPlayer(this.n2, this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n4.getNeighborsHelperPlayer(this.n3, this.e_list), new ArrayList<Node>());
+
+		this.e_list.remove(0);
+		t.checkExpect(this.n1.getNeighborsHelperPlayer(this.n2, this.e_list), new ArrayList<Node>(Arrays.asList(this.n1)));
+		t.checkExpect(this.n1.getNeighborsHelperPlayer(this.n3, this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n2.getNeighborsHelperPlayer(this.n1, this.e_list), new ArrayList<Node>(Arrays.asList(this.n2)));
+		t.checkExpect(this.n2.getNeighborsHelperPlayer(this.n4, this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n3.getNeighborsHelperPlayer(this.n1, this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n3.getNeighborsHelperPlayer(this.n4, this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n4.getNeighborsHelperPlayer(this.n2, this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n4.getNeighborsHelperPlayer(this.n3, this.e_list), new ArrayList<Node>());
+
+		this.e_list.remove(0);
+		t.checkExpect(this.n1.getNeighborsHelperPlayer(this.n2, this.e_list), new ArrayList<Node>(Arrays.asList(this.n1)));
+		t.checkExpect(this.n1.getNeighborsHelperPlayer(this.n3, this.e_list), new ArrayList<Node>(Arrays.asList(this.n1)));
+		t.checkExpect(this.n2.getNeighborsHelperPlayer(this.n1, this.e_list), new ArrayList<Node>(Arrays.asList(this.n2)));
+		t.checkExpect(this.n2.getNeighborsHelperPlayer(this.n4, this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n3.getNeighborsHelperPlayer(this.n1, this.e_list), new ArrayList<Node>(Arrays.asList(this.n3)));
+		t.checkExpect(this.n3.getNeighborsHelperPlayer(this.n4, this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n4.getNeighborsHelperPlayer(this.n2, this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n4.getNeighborsHelperPlayer(this.n3, this.e_list), new ArrayList<Node>());
+
+		this.e_list.remove(0);
+		t.checkExpect(this.n1.getNeighborsHelperPlayer(this.n2, this.e_list), new ArrayList<Node>(Arrays.asList(this.n1)));
+		t.checkExpect(this.n1.getNeighborsHelperPlayer(this.n3, this.e_list), new ArrayList<Node>(Arrays.asList(this.n1)));
+		t.checkExpect(this.n2.getNeighborsHelperPlayer(this.n1, this.e_list), new ArrayList<Node>(Arrays.asList(this.n2)));
+		t.checkExpect(this.n2.getNeighborsHelperPlayer(this.n4, this.e_list), new ArrayList<Node>(Arrays.asList(this.n2)));
+		t.checkExpect(this.n3.getNeighborsHelperPlayer(this.n1, this.e_list), new ArrayList<Node>(Arrays.asList(this.n3)));
+		t.checkExpect(this.n3.getNeighborsHelperPlayer(this.n4, this.e_list), new ArrayList<Node>());
+		t.checkExpect(this.n4.getNeighborsHelperPlayer(this.n2, this.e_list), new ArrayList<Node>(Arrays.asList(this.n4)));
+		t.checkExpect(this.n4.getNeighborsHelperPlayer(this.n3, this.e_list), new ArrayList<Node>());
+
+		this.e_list.remove(0);
+		t.checkExpect(this.n1.getNeighborsHelperPlayer(this.n2, this.e_list), new ArrayList<Node>(Arrays.asList(this.n1)));
+		t.checkExpect(this.n1.getNeighborsHelperPlayer(this.n3, this.e_list), new ArrayList<Node>(Arrays.asList(this.n1)));
+		t.checkExpect(this.n2.getNeighborsHelperPlayer(this.n1, this.e_list), new ArrayList<Node>(Arrays.asList(this.n2)));
+		t.checkExpect(this.n2.getNeighborsHelperPlayer(this.n4, this.e_list), new ArrayList<Node>(Arrays.asList(this.n2)));
+		t.checkExpect(this.n3.getNeighborsHelperPlayer(this.n1, this.e_list), new ArrayList<Node>(Arrays.asList(this.n3)));
+		t.checkExpect(this.n3.getNeighborsHelperPlayer(this.n4, this.e_list), new ArrayList<Node>(Arrays.asList(this.n3)));
+		t.checkExpect(this.n4.getNeighborsHelperPlayer(this.n2, this.e_list), new ArrayList<Node>(Arrays.asList(this.n4)));
+		t.checkExpect(this.n4.getNeighborsHelperPlayer(this.n3, this.e_list), new ArrayList<Node>(Arrays.asList(this.n4)));
+
+	}
+
+	/* Tests the doesDrawRight method */
+	void testDoesDrawRight(Tester t) {
+
+		this.initData();
+		t.checkExpect(this.n1.doesDrawRight(this.e_list), true);
+		this.n1.updateRight(this.n2);
+		t.checkExpect(this.n1.doesDrawRight(this.e_list), true);
+		this.e_list.remove(0);
+		t.checkExpect(this.n1.doesDrawRight(this.e_list), false);
+
+		this.initData();
+		t.checkExpect(this.n2.doesDrawRight(this.e_list), true);
+		this.n1.updateRight(this.n2);
+		t.checkExpect(this.n2.doesDrawRight(this.e_list), true);
+		this.e_list.remove(0);
+		t.checkExpect(this.n2.doesDrawRight(this.e_list), true);
+
+		this.initData();
+		t.checkExpect(this.n3.doesDrawRight(this.e_list), true);
+		this.n3.updateRight(this.n4);
+		t.checkExpect(this.n3.doesDrawRight(this.e_list), true);
+		this.e_list.remove(3);
+		t.checkExpect(this.n3.doesDrawRight(this.e_list), false);
+
+		this.initData();
+		t.checkExpect(this.n4.doesDrawRight(this.e_list), true);
+		this.n3.updateRight(this.n4);
+		t.checkExpect(this.n4.doesDrawRight(this.e_list), true);
+		this.e_list.remove(3);
+		t.checkExpect(this.n4.doesDrawRight(this.e_list), true);
+	}
+
+	/* Tests the doesDrawBottom method */
+	void testDoesDrawBottom(Tester t) {
+
+		this.initData();
+		t.checkExpect(this.n1.doesDrawBottom(this.e_list), true);
+		this.n1.updateBottom(this.n3);
+		t.checkExpect(this.n1.doesDrawBottom(this.e_list), true);
+		this.e_list.remove(1);
+		t.checkExpect(this.n1.doesDrawBottom(this.e_list), false);
+
+		this.initData();
+		t.checkExpect(this.n2.doesDrawBottom(this.e_list), true);
+		this.n2.updateBottom(this.n4);
+		t.checkExpect(this.n2.doesDrawBottom(this.e_list), true);
+		this.e_list.remove(2);
+		t.checkExpect(this.n2.doesDrawBottom(this.e_list), false);
+
+		this.initData();
+		t.checkExpect(this.n3.doesDrawBottom(this.e_list), true);
+		this.n1.updateBottom(this.n3);
+		t.checkExpect(this.n3.doesDrawBottom(this.e_list), true);
+		this.e_list.remove(1);
+		t.checkExpect(this.n3.doesDrawBottom(this.e_list), true);
+
+		this.initData();
+		t.checkExpect(this.n4.doesDrawBottom(this.e_list), true);
+		this.n2.updateBottom(this.n4);
+		t.checkExpect(this.n4.doesDrawBottom(this.e_list), true);
+		this.e_list.remove(2);
+		t.checkExpect(this.n4.doesDrawBottom(this.e_list), true);
+	}
+
+	/* Tests the getAllNeighbors and getAllNeighborsPlayer methods using the wall index. */
+	void testGetAllNeighborsWalls(Tester t) {
+
+		this.initData();
+		WallIndex walls = new WallIndex(2, 2);
+		t.checkExpect(this.n1.getAllNeighbors(walls), new ArrayList<Node>());
+		t.checkExpect(this.n4.getAllNeighborsPlayer(walls), new ArrayList<Node>());
+
+		this.n1.updateBottom(this.n3);
+		this.n1.updateRight(this.n2);
+		this.n2.updateBottom(this.n4);
+		this.n3.updateRight(this.n4);
+
+		t.checkExpect(this.n1.getAllNeighbors(walls), new ArrayList<Node>());
+		t.checkExpect(this.n2.getAllNeighbors(walls), new ArrayList<Node>());
+
+		this.e1.removeWall(walls);
+		t.checkExpect(this.n1.getAllNeighbors(walls), new ArrayList<Node>(Arrays.asList(this.n2)));
+		t.checkExpect(this.n2.getAllNeighbors(walls), new ArrayList<Node>(Arrays.asList(this.n1)));
+
+		this.e2.removeWall(walls);
+		this.e3.removeWall(walls);
+		t.checkExpect(this.n1.getAllNeighbors(walls), new ArrayList<Node>(Arrays.asList(this.n2, this.n3)));
+		t.checkExpect(this.n2.getAllNeighbors(walls), new ArrayList<Node>(Arrays.asList(this.n1, this.n4)));
+		t.checkExpect(this.n3.getAllNeighbors(walls), new ArrayList<Node>(Arrays.asList(this.n1)));
+
+		this.e4.removeWall(walls);
+		t.checkExpect(this.n4.getAllNeighbors(walls), new ArrayList<Node>(Arrays.asList(this.n3, this.n2)));
+
+		// Visited nodes are skipped, except under user control.
+		this.n2.visited = true;
+		t.checkExpect(this.n1.getAllNeighbors(walls), new ArrayList<Node>(Arrays.asList(this.n3)));
+		t.checkExpect(this.n1.getAllNeighborsPlayer(walls), new ArrayList<Node>(Arrays.asList(this.n2, this.n3)));
+		t.checkExpect(this.n2.getNeighborsHelper(this.n1, walls), new ArrayList<Node>());
+		t.checkExpect(this.n2.getNeighborsHelperPlayer(this.n1, walls), new ArrayList<Node>(Arrays.asList(this.n2)));
+		t.checkExpect(this.bar.getNeighborsHelper(this.n1, walls), new ArrayList<Node>());
+		t.checkExpect(this.bar.getNeighborsHelperPlayer(this.n1, walls), new ArrayList<Node>());
+	}
+
+	/* Tests the neighbors, neighborsPlayer and opensTo methods. */
+	void testNeighborsBuffer(Tester t) {
+
+		this.initData();
+		WallIndex walls = new WallIndex(2, 2);
+		Node[] out = new Node[4];
+		this.n1.updateBottom(this.n3);
+		this.n1.updateRight(this.n2);
+		this.n2.updateBottom(this.n4);
+		this.n3.updateRight(this.n4);
+
+		t.checkExpect(this.n1.neighbors(walls, out), 0);
+		t.checkExpect(this.n1.opensTo(this.n2, walls), false);
+
+		this.e1.removeWall(walls);
+		this.e2.removeWall(walls);
+		this.e4.removeWall(walls);
+		t.checkExpect(this.n4.neighbors(walls, out), 1);
+		t.checkExpect(out[0], this.n3);
+		t.checkExpect(this.n1.neighbors(walls, out), 2);
+		t.checkExpect(out[0], this.n2);
+		t.checkExpect(out[1], this.n3);
+
+		// Visited nodes are skipped, except under user control.
+		this.n2.visited = true;
+		t.checkExpect(this.n1.neighbors(walls, out), 1);
+		t.checkExpect(out[0], this.n3);
+		t.checkExpect(this.n1.neighborsPlayer(walls, out), 2);
+		t.checkExpect(out[0], this.n2);
+		t.checkExpect(this.bar.neighborsHelper(this.n1, walls, out, 3), 3);
+		t.checkExpect(this.bar.neighborsHelperPlayer(this.n1, walls, out, 3), 3);
+
+		// Only adjacent nodes with no wall between are open.
+		t.checkExpect(this.n1.opensTo(this.n2, walls), true);
+		t.checkExpect(this.n2.opensTo(this.n4, walls), false);
+		t.checkExpect(this.n1.opensTo(this.n4, walls), false);
+		t.checkExpect(this.n1.opensTo(this.bar, walls), false);
+	}
+
+	/* Tests the doesDrawRight and doesDrawBottom methods using the wall index. */
+	void testDoesDrawWalls(Tester t) {
+
+		this.initData();
+		WallIndex walls = new WallIndex(2, 2);
+		t.checkExpect(this.n1.doesDrawRight(walls), true);
+		t.checkExpect(this.n1.doesDrawBottom(walls), true);
+		this.n1.updateRight(this.n2);
+		this.n1.updateBottom(this.n3);
+		t.checkExpect(this.n1.doesDrawRight(walls), true);
+		t.checkExpect(this.n1.doesDrawBottom(walls), true);
+		this.e1.removeWall(walls);
+		t.checkExpect(this.n1.doesDrawRight(walls), false);
+		t.checkExpect(this.n1.doesDrawBottom(walls), true);
+		this.e2.removeWall(walls);
+		t.checkExpect(this.n1.doesDrawBottom(walls), false);
+
+		// The maze border always draws.
+		t.checkExpect(this.n2.doesDrawRight(walls), true);
+		t.checkExpect(this.n3.doesDrawBottom(walls), true);
+	}
+
+	/* Tests the doesDrawLeft method */
+	void testDoesDrawLeft(Tester t) {
+
+		this.initData();
+		t.checkExpect(this.n1.doesDrawLeft(this.e_list), true);
+		this.n1.updateRight(this.n2); // updates Left at the same time
+		t.checkExpect(this.n1.doesDrawLeft(this.e_list), true);
+
+		this.initData();
+		t.checkExpect(this.n2.doesDrawLeft(this.e_list), true);
+		this.n1.updateRight(this.n2); // updates Left at the same time
+		t.checkExpect(this.n2.doesDrawLeft(this.e_list), false);
+
+		this.initData();
+		t.checkExpect(this.n3.doesDrawLeft(this.e_list), true);
+		this.n3.updateRight(this.n4);
+		t.checkExpect(this.n3.doesDrawLeft(this.e_list), true);
+
+		this.initData();
+		t.checkExpect(this.n4.doesDrawLeft(this.e_list), true);
+		this.n3.updateRight(this.n4);
+		t.checkExpect(this.n4.doesDrawLeft(this.e_list), false);
+
+	}
+
+	/* Tests the doesDrawTop method */
+	void testDoesDrawTop(Tester t) {
+
+		this.initData();
+		t.checkExpect(this.n1.doesDrawTop(this.e_list), true);
+		this.n1.updateBottom(this.n3);
+		t.checkExpect(this.n1.doesDrawTop(this.e_list), true);
+
+		this.initData();
+		t.checkExpect(this.n2.doesDrawTop(this.e_list), true);
+		this.n2.updateBottom(this.n4);
+		t.checkExpect(this.n2.doesDrawTop(this.e_list), true);
+
+		this.initData();
+		t.checkExpect(this.n3.doesDrawTop(this.e_list), true);
+		this.n1.updateBottom(this.n3);
+		t.checkExpect(this.n3.doesDrawTop(this.e_list), false);
+
+		this.initData();
+		t.checkExpect(this.n4.doesDrawTop(this.e_list), true);
+		this.n2.updateBottom(this.n4);
+		t.checkExpect(this.n4.doesDrawTop(this.e_list), false);		
+
+	}
+
+	/* Tests the fCost method. */
+	void testFCost(Tester t) {
+		this.initData();
+		// Costs belong to a search, so a new board has none.
+		t.checkExpect(this.testBoard.get(0, 1).h_cost, 0);
+		t.checkExpect(this.testBoard.get(0, 1).g_cost, 0);
+		t.checkExpect(this.testBoard.get(0, 1).fCost(), 0);
+
+		this.testBoard.get(0, 1).updateCosts(1, this.testBoard.target, new ManhattanHeuristic());
+		t.checkExpect(this.testBoard.get(0, 1).h_cost, 7);
+		t.checkExpect(this.testBoard.get(0, 1).g_cost, 1);
+		t.checkExpect(this.testBoard.get(0, 1).fCost(), 8);
+
+		this.testBoard.get(1, 1).updateCosts(20, this.testBoard.target, new OctileHeuristic());
+		t.checkExpect(this.testBoard.get(1, 1).h_cost, 42);
+		t.checkExpect(this.testBoard.get(1, 1).g_cost, 20);
+		t.checkExpect(this.testBoard.get(1, 1).fCost(), 62);
+	}
+
+	/* Tests the updateCosts method. */
+	void testUpdateCosts(Tester t) {
+		this.initData();
+		this.n1.updateCosts(3, this.n4, new ManhattanHeuristic());
+		t.checkExpect(this.n1.g_cost, 3);
+		t.checkExpect(this.n1.h_cost, 2);
+		this.n4.updateCosts(0, this.n1, new OctileHeuristic());
+		t.checkExpect(this.n4.g_cost, 0);
+		t.checkExpect(this.n4.h_cost, 14);
+		this.n4.updateCosts(5, this.n4, new ManhattanHeuristic());
+		t.checkExpect(this.n4.h_cost, 0);
+		t.checkExpect(this.n4.fCost(), 5);
+		this.n4.reset();
+		t.checkExpect(this.n4.fCost(), 0);
+	}
+
+	/* Tests the IHeuristic implementations. */
+	void testHeuristics(Tester t) {
+		IHeuristic manhattan = new ManhattanHeuristic();
+		IHeuristic octile = new OctileHeuristic();
+		t.checkExpect(manhattan.estimate(0, 0), 0);
+		t.checkExpect(manhattan.estimate(4, 4), 8);
+		t.checkExpect(manhattan.estimate(3, 1), 4);
+		t.checkExpect(manhattan.stepCost(), 1);
+		t.checkExpect(octile.estimate(4, 4), 56);
+		t.checkExpect(octile.estimate(3, 1), 34);
+		t.checkExpect(octile.estimate(1, 3), 34);
+		t.checkExpect(octile.stepCost(), 10);
+		// Both agree with Board.getDistance on the octile estimate.
+		this.initData();
+		t.checkExpect(octile.estimate(3, 2), 
+				this.testBoard.getDistance(this.testBoard.get(1, 2), this.testBoard.target));
+	}
+
+	/* Tests the key method of the TieBreak enumeration. */
+	void testTieBreak(Tester t) {
+		t.checkExpect(TieBreak.LOWEST_H.key(3, 7), 7);
+		t.checkExpect(TieBreak.LOWEST_G.key(3, 7), 3);
+		t.checkExpect(TieBreak.NONE.key(3, 7), 0);
+	}
+
+	/* Tests the reset method for the Node class. */
+	void testResetNode(Tester t) {
+		this.initData();
+		t.checkExpect(this.n1.visited, false);
+		this.n1.visited = true;
+		t.checkExpect(this.n1.visited, true);
+		this.n1.reset();
+		t.checkExpect(this.n1.visited, false);
+	}
+
+	/* Tests for Edge object methods occupy lines 1722 through 1779 */
+
+
+	/* Tests the connectsNodes methods */
+	void testConnectsNodes(Tester t) {
+
+		this.initData();
+		t.checkExpect(this.e1.connectsNodes(n1, n2), true);
+		t.checkExpect(this.e1.connectsNodes(n2, n1), true);
+		t.checkExpect(this.e1.connectsNodes(n1, n4), false);
+		t.checkExpect(this.e1.connectsNodes(n4, n1), false);
+		t.checkExpect(this.e1.connectsNodes(n3, n4), false);
+
+		t.checkExpect(this.e2.connectsNodes(n1, n3), true);
+		t.checkExpect(this.e2.connectsNodes(n3, n1), true);
+		t.checkExpect(this.e2.connectsNodes(n2, n3), false);
+		t.checkExpect(this.e2.connectsNodes(n3, n2), false);
+		t.checkExpect(this.e2.connectsNodes(n2, n4), false);
+
+		t.checkExpect(this.e3.connectsNodes(n2, n4), true);
+		t.checkExpect(this.e3.connectsNodes(n4, n2), true);
+		t.checkExpect(this.e3.connectsNodes(n2, n3), false);
+		t.checkExpect(this.e3.connectsNodes(n3, n2), false);
+		t.checkExpect(this.e3.connectsNodes(n1, n3), false);
+
+		t.checkExpect(this.e4.connectsNodes(n3, n4), true);
+		t.checkExpect(this.e4.connectsNodes(n4, n3), true);
+		t.checkExpect(this.e4.connectsNodes(n3, n2), false);
+		t.checkExpect(this.e4.connectsNodes(n2, n3), false);
+		t.checkExpect(this.e4.connectsNodes(n1, n2), false);
+
+	}
+
+	/* Tests the removeWall method for Edge objects */
+	void testRemoveWallEdge(Tester t) {
+
+		this.initData();
+		WallIndex walls = new WallIndex(2, 2);
+		t.checkExpect(walls.separates(this.n1, this.n2), true);
+		this.e1.removeWall(walls);
+		t.checkExpect(walls.separates(this.n1, this.n2), false);
+		t.checkExpect(walls.separates(this.n2, this.n1), false);
+		t.checkExpect(walls.separates(this.n3, this.n4), true);
+		this.e4.removeWall(walls);
+		t.checkExpect(walls.separates(this.n4, this.n3), false);
+
+		// Barriers never give way.
+		this.bar.removeWall(this.n1, walls);
+		this.n1.removeWall(this.bar, walls);
+		t.checkExpect(walls.separates(this.n1, this.n3), true);
+	}
+
+	/* Tests the mergeSets method */
+	void testMergeSets(Tester t) {
+
+		this.initData();
+		t.checkExpect(this.e1.from.sameCode(this.e1.to), false);
+		this.e1.mergeSets();
+		t.checkExpect(this.e1.from.sameCode(this.e1.to), true);
+
+		this.initData();
+		t.checkExpect(this.e2.from.sameCode(this.e2.to), false);
+		this.e2.mergeSets();
+		t.checkExpect(this.e2.from.sameCode(this.e2.to), true);
+
+	}
+
+	/* Tests the sameCodeBothSides method */
+	void testSameCodeBothSides(Tester t) {
+
+		this.initData();
+		t.checkExpect(this.e1.sameCodeBothSides(), false);
+		this.e1.mergeSets();
+		t.checkExpect(this.e1.sameCodeBothSides(), true);
+
+		this.initData();
+		t.checkExpect(this.e2.sameCodeBothSides(), false);
+		this.e2.mergeSets();
+		t.checkExpect(this.e2.sameCodeBothSides(), true);
+
+	}
+
+	/* Tests the sameSet method for IGamePiece objects */
+	void testSameSet(Tester t) {
+
+		this.initData();
+		DisjointSet sets = new DisjointSet(9);
+		t.checkExpect(this.n1.sameSet(this.bar, sets), false);
+		t.checkExpect(this.bar.sameSet(this.n1, sets), false);
+		t.checkExpect(this.n1.sameSet(this.n1_1, sets), true);
+		t.checkExpect(this.n1.sameSet(this.n2, sets), false);
+		t.checkExpect(this.n2.sameSet(this.n4, sets), false);
+		sets.union(1, 3);
+		t.checkExpect(this.n2.sameSet(this.n4, sets), true);
+		t.checkExpect(this.n4.sameSetHelper(this.n2, sets), true);
+		t.checkExpect(this.bar.sameSetHelper(this.n2, sets), false);
+
+	}
+
+	/* Tests the unionSet method for IGamePiece objects */
+	void testUnionSet(Tester t) {
+
+		this.initData();
+		DisjointSet sets = new DisjointSet(9);
+		this.bar.unionSet(this.n1, sets);
+		this.n1.unionSet(this.bar, sets);
+		t.checkExpect(sets.find(0), 0);
+		this.n1.unionSet(this.n2, sets);
+		t.checkExpect(this.n1.sameSet(this.n2, sets), true);
+		t.checkExpect(this.n1.sameSet(this.n3, sets), false);
+		this.n3.unionSetHelper(this.n4, sets);
+		t.checkExpect(this.n4.sameSet(this.n3, sets), true);
+		t.checkExpect(this.n4.sameSet(this.n1, sets), false);
+		// Codes are left untouched; only the disjoint sets change.
+		t.checkExpect(this.n1.code, 0);
+		t.checkExpect(this.n2.code, 1);
+
+	}
+
+	/* Tests the mergeSets and sameCodeBothSides methods using disjoint sets */
+	void testMergeSetsDisjoint(Tester t) {
+
+		this.initData();
+		DisjointSet sets = new DisjointSet(9);
+		t.checkExpect(this.e1.sameCodeBothSides(sets), false);
+		this.e1.mergeSets(sets);
+		t.checkExpect(this.e1.sameCodeBothSides(sets), true);
+		t.checkExpect(this.e3.sameCodeBothSides(sets), false);
+		this.e3.mergeSets(sets);
+		t.checkExpect(this.e2.sameCodeBothSides(sets), false);
+		this.e4.mergeSets(sets);
+		t.checkExpect(this.e2.sameCodeBothSides(sets), true);
+
+	}
+
+	/* Tests the WallIndex class */
+	void testWallIndex(Tester t) {
+
+		WallIndex walls = new WallIndex(3, 2);
+		t.checkExpect(walls.hasRightWall(0, 0), true);
+		t.checkExpect(walls.hasRightWall(2, 1), true);
+		t.checkExpect(walls.hasBottomWall(1, 0), true);
+		t.checkExpect(walls.separates(new Node(1, 0, 1), new Node(2, 0, 2)), true);
+
+		walls.remove(new Node(2, 0, 2), new Node(1, 0, 1));
+		t.checkExpect(walls.hasRightWall(1, 0), false);
+		t.checkExpect(walls.hasRightWall(0, 0), true);
+		t.checkExpect(walls.hasRightWall(1, 1), true);
+		t.checkExpect(walls.separates(new Node(1, 0, 1), new Node(2, 0, 2)), false);
+
+		walls.remove(new Node(1, 0, 1), new Node(1, 1, 4));
+		t.checkExpect(walls.hasBottomWall(1, 0), false);
+		t.checkExpect(walls.hasBottomWall(0, 0), true);
+		t.checkExpect(walls.separates(new Node(1, 1, 4), new Node(1, 0, 1)), false);
+		t.checkExpect(walls.right.cardinality(), 5);
+		t.checkExpect(walls.bottom.cardinality(), 5);
+	}
+
+	/* Tests the find and union methods of the DisjointSet class */
+	void testDisjointSet(Tester t) {
+
+		DisjointSet sets = new DisjointSet(5);
+		t.checkExpect(sets.find(0), 0);
+		t.checkExpect(sets.find(4), 4);
+		t.checkExpect(sets.union(0, 1), true);
+		t.checkExpect(sets.union(1, 0), false);
+		t.checkExpect(sets.find(1), sets.find(0));
+		t.checkExpect(sets.rank[sets.find(0)], 1);
+		t.checkExpect(sets.union(2, 0), true);
+		t.checkExpect(sets.rank[sets.find(2)], 1);
+		t.checkExpect(sets.union(3, 4), true);
+		t.checkExpect(sets.union(4, 2), true);
+		t.checkExpect(sets.rank[sets.find(4)], 2);
+		for (int i = 0; i < 5; i ++) {
+			t.checkExpect(sets.find(i), sets.find(0));
+		}
+		// Path compression: every element now points at the representative.
+		for (int i = 0; i < 5; i ++) {
+			t.checkExpect(sets.parent[i], sets.find(0));
+		}
+
+	}
+
+
+	/* Tests on Board objects and methods occupy lines 1396 through 1459 */
+
+
+	/* Tests the shortcut Get method */
+	void testGet(Tester t) {
+
+		this.initData();
+		t.checkExpect(this.board.get(0, 0), this.board.board.get(0).get(0));
+		t.checkExpect(this.board.get(0, 1), this.board.board.get(0).get(1));
+		t.checkExpect(this.board.get(1, 0), this.board.board.get(1).get(0));
+		t.checkExpect(this.board.get(1, 0), this.board.board.get(1).get(0));
+
+	}
+
+	/* Tests the fixBoard method */
+	void testFixBoard(Tester t) {
+
+		this.initData();
+		t.checkExpect(this.board.get(0, 0).right, this.board.get(1, 0));
+		t.checkExpect(this.board.get(0, 0).bottom, this.board.get(0, 1));
+		t.checkExpect(this.board.get(0, 0).top, new Barrier());
+		t.checkExpect(this.board.get(0, 0).left, new Barrier());
+
+		this.board.get(0, 0).bottom = this.board.get(1, 1);
+		t.checkExpect(this.board.get(0, 0).bottom, this.board.get(1, 1));
+		this.board.fixBoard();
+		t.checkExpect(this.board.get(0, 0).bottom, this.board.get(0, 1));
+
+	}
+
+	/* Tests the cellSize method */
+	void testCellSize(Tester t) {
+
+		this.initData();
+		t.checkExpect(this.board.cellSize(), 375);
+		this.board.width = 5;
+		this.board.height = 5;
+		t.checkExpect(this.board.cellSize(), 150);
+
+	}
+
+	/* Tests the edgeThickness method */
+	void testEdgeThickness(Tester t) {
+
+		this.initData();
+		t.checkExpect(this.board.edgeThickness(), 375 / 12);
+		this.board.width = 5;
+		this.board.height = 5;
+		t.checkExpect(this.board.edgeThickness(), 150 / 12);
+
+	}
+
+	/* Tests the reset method (for Board only) */
+	void testResetBoard(Tester t) {
+
+		this.initData();
+		this.board.fixBoard();
+		t.checkExpect(this.board.get(0, 0).visited, false);
+		t.checkExpect(this.board.get(0, 1).visited, false);
+		this.board.get(0, 0).visited = true;
+		this.board.get(0, 1).visited = true;
+		t.checkExpect(this.board.get(0, 0).visited, true);
+		t.checkExpect(this.board.get(0, 1).visited, true);
+		this.board.reset();
+		t.checkExpect(this.board.get(0, 0).visited, false);
+		t.checkExpect(this.board.get(0, 1).visited, false);
+
+	}
+
+	/* Tests the getDistance method. */
+	void testGetDistance(Tester t) {
+		this.initData();
+		t.checkExpect(this.testBoard.get(0, 0).x, 0);
+		t.checkExpect(this.testBoard.get(0, 0).y, 0);
+		t.checkExpect(this.testBoard.get(1, 2).x, 1);
+		t.checkExpect(this.testBoard.get(1, 2).y, 2);
+		t.checkExpect(this.testBoard.target.x, 4);
+		t.checkExpect(this.testBoard.target.y, 4);
+
+		t.checkExpect(this.testBoard.getDistance(this.testBoard.get(0, 0), this.testBoard.target), 56);
+		t.checkExpect(this.testBoard.getDistance(this.testBoard.target, this.testBoard.get(0, 0)), 56);
+		t.checkExpect(this.testBoard.getDistance(this.testBoard.get(1, 2), this.testBoard.target), 38);
+		t.checkExpect(this.testBoard.getDistance(this.testBoard.target, this.testBoard.get(1, 2)), 38);
+	}
+
+
+	/* Tests the index and position-based get methods */
+	void testIndex(Tester t) {
+
+		this.initData();
+		t.checkExpect(this.testBoard.index(this.testBoard.get(0, 0)), 0);
+		t.checkExpect(this.testBoard.index(this.testBoard.get(3, 0)), 3);
+		t.checkExpect(this.testBoard.index(this.testBoard.get(3, 2)), 13);
+		t.checkExpect(this.testBoard.get(13), this.testBoard.get(3, 2));
+		t.checkExpect(this.testBoard.get(24), this.testBoard.target);
+
+	}
+
+	/* Tests the generate method */
+	void testGenerate(Tester t) {
+
+		this.initData();
+		Board b = this.testBoard;
+		t.checkExpect(b.edges.size(), 40);
+		b.generate();
+		// A perfect maze takes down exactly one wall fewer than it has nodes.
+		t.checkExpect(b.edges.size(), 40 - 24);
+		t.checkExpect(b.walls.right.cardinality() + b.walls.bottom.cardinality(), 50 - 24);
+		for (int i = 1; i < 25; i ++) {
+			t.checkExpect(b.get(i).sameSet(b.get(0), b.sets), true);
+		}
+		for (Edge e : b.edges) {
+			t.checkExpect(e.sameCodeBothSides(b.sets), true);
+		}
+
+		this.initData();
+		this.testBoard1x2.generate();
+		t.checkExpect(this.testBoard1x2.edges, new ArrayList<Edge>());
+		t.checkExpect(this.testBoard1x2.get(0, 0).doesDrawBottom(this.testBoard1x2.walls), false);
+
+	}
+
+	/* Tests the neighbors method of the WallIndex class */
+	void testWallIndexNeighbors(Tester t) {
+
+		WallIndex walls = new WallIndex(3, 2);
+		int[] out = new int[4];
+		t.checkExpect(walls.neighbors(4, out), 0);
+		walls.remove(new Node(1, 0, 1), new Node(1, 1, 4));
+		walls.remove(new Node(0, 1, 3), new Node(1, 1, 4));
+		walls.remove(new Node(1, 1, 4), new Node(2, 1, 5));
+		t.checkExpect(walls.neighbors(4, out), 3);
+		t.checkExpect(out, new int[] {3, 5, 1, 0});
+		t.checkExpect(walls.neighbors(1, out), 1);
+		t.checkExpect(out[0], 4);
+		t.checkExpect(walls.neighbors(5, out), 1);
+		t.checkExpect(out[0], 4);
+		t.checkExpect(walls.neighbors(2, out), 0);
+
+	}
+
+	/* Tests the IMaze methods of the Board class */
+	void testBoardIMaze(Tester t) {
+
+		this.initData();
+		Board b = this.testBoard1x2;
+		t.checkExpect(b.width(), 1);
+		t.checkExpect(b.height(), 2);
+		t.checkExpect(b.index(0, 1), 1);
+		t.checkExpect(b.hasBottomWall(0), true);
+		t.checkExpect(b.hasRightWall(0), true);
+		int[] out = new int[4];
+		t.checkExpect(b.neighbors(0, out), 0);
+		b.generate();
+		t.checkExpect(b.hasBottomWall(0), false);
+		t.checkExpect(b.neighbors(0, out), 1);
+		t.checkExpect(out[0], 1);
+
+	}
+
+	/* Tests copying a Board into a CompactMaze */
+	void testCompactMazeFromBoard(Tester t) {
+
+		this.initData();
+		Board b = this.testBoard;
+		b.generate();
+		CompactMaze compact = new CompactMaze(b);
+		t.checkExpect(compact.width(), 5);
+		t.checkExpect(compact.height(), 5);
+		t.checkExpect(compact.cells.length, 25);
+		t.checkExpect(compact.index(3, 2), b.index(3, 2));
+		int[] fromBoard = new int[4];
+		int[] fromCompact = new int[4];
+		for (int cell = 0; cell < 25; cell ++) {
+			t.checkExpect(compact.hasRightWall(cell), b.hasRightWall(cell));
+			t.checkExpect(compact.hasBottomWall(cell), b.hasBottomWall(cell));
+			t.checkExpect(compact.neighbors(cell, fromCompact), b.neighbors(cell, fromBoard));
+			t.checkExpect(fromCompact, fromBoard);
+		}
+
+		// Solvers work unchanged on either representation.
+		for (SearchType search : new SearchType[] {
+				SearchType.DEPTH_FIRST, SearchType.BREADTH_FIRST, SearchType.A_STAR}) {
+			SearchResult onBoard = new MazeSolver(b).solve(0, 24, search);
+			SearchResult onCompact = new MazeSolver(compact).solve(0, 24, search);
+			t.checkExpect(onCompact.path, onBoard.path);
+			t.checkExpect(onCompact.explored, onBoard.explored);
+		}
+
+	}
+
+	/* Tests generating a CompactMaze directly */
+	void testCompactMazeGenerate(Tester t) {
+
+		CompactMaze walled = new CompactMaze(3, 2);
+		t.checkExpect(walled.cells, new byte[] {3, 3, 3, 3, 3, 3});
+		t.checkExpect(new MazeSolver(walled).solve(0, 5, SearchType.BREADTH_FIRST).found(), false);
+
+		CompactMaze compact = new CompactMaze(6, 4, new Random(25));
+		int standing = 0;
+		for (int cell = 0; cell < 24; cell ++) {
+			standing += (compact.hasRightWall(cell) ? 1 : 0) + (compact.hasBottomWall(cell) ? 1 : 0);
+			// The border always stands.
+			t.checkExpect(compact.hasRightWall(compact.index(5, cell / 6)), true);
+			t.checkExpect(compact.hasBottomWall(compact.index(cell % 6, 3)), true);
+		}
+		// A perfect maze takes down exactly one wall fewer than it has nodes.
+		t.checkExpect(standing, 48 - 23);
+		MazeSolver solver = new MazeSolver(compact);
+		for (int cell = 0; cell < 24; cell ++) {
+			t.checkExpect(solver.solve(0, cell, SearchType.BREADTH_FIRST).found(), true);
+		}
+
+		// The same seed always builds the same maze.
+		t.checkExpect(new CompactMaze(6, 4, new Random(25)).cells, compact.cells);
+
+	}
+
+	/* Tests the EllerGenerator class and the acceptRow method */
+	void testEllerGenerator(Tester t) {
+
+		int[][] sizes = {{1, 1}, {1, 5}, {5, 1}, {6, 4}, {30, 40}};
+		for (int[] size : sizes) {
+			int cells = size[0] * size[1];
+			CompactMaze maze = new CompactMaze(size[0], size[1]);
+			new EllerGenerator(size[0], new Random(25)).generate(size[1], maze);
+			int standing = 0;
+			for (int cell = 0; cell < cells; cell ++) {
+				standing += (maze.hasRightWall(cell) ? 1 : 0) + (maze.hasBottomWall(cell) ? 1 : 0);
+			}
+			// A perfect maze: one wall fewer down than it has nodes, all connected.
+			t.checkExpect(standing, 2 * cells - (cells - 1));
+			MazeSolver solver = new MazeSolver(maze);
+			for (int cell = 0; cell < cells; cell ++) {
+				t.checkExpect(solver.solve(0, cell, SearchType.BREADTH_FIRST).found(), true);
+			}
+			t.checkExpect(maze.hasRightWall(cells - 1), true);
+			t.checkExpect(maze.hasBottomWall(cells - 1), true);
+		}
+
+		// Rows arrive in order, and the same seed always streams the same maze.
+		CompactMaze first = new CompactMaze(8, 3);
+		CompactMaze second = new CompactMaze(8, 3);
+		new EllerGenerator(8, new Random(3)).generate(3, first);
+		new EllerGenerator(8, new Random(3)).generate(3, second);
+		t.checkExpect(first.cells, second.cells);
+
+		CompactMaze copy = new CompactMaze(2, 2);
+		copy.acceptRow(1, new byte[] {1, 3});
+		t.checkExpect(copy.cells, new byte[] {3, 3, 1, 3});
+	}
+
+	/* Tests the MazeFile, MazeFileWriter and MappedMaze classes */
+	void testMazeFile(Tester t) throws IOException {
+
+		this.initData();
+		Path path = Files.createTempFile("maze", ".bin");
+		path.toFile().deleteOnExit();
+		this.testBoard.generate();
+		MazeFile.write(this.testBoard, 25, path);
+
+		// A 5x5 maze packs into 2 bytes per row after the header.
+		t.checkExpect(Files.size(path), 24L + 5 * 2);
+		MappedMaze mapped = new MappedMaze(path);
+		t.checkExpect(mapped.width(), 5);
+		t.checkExpect(mapped.height(), 5);
+		t.checkExpect(mapped.seed, 25L);
+		t.checkExpect(mapped.version, 1);
+		for (int cell = 0; cell < 25; cell ++) {
+			t.checkExpect(mapped.hasRightWall(cell), this.testBoard.hasRightWall(cell));
+			t.checkExpect(mapped.hasBottomWall(cell), this.testBoard.hasBottomWall(cell));
+		}
+		t.checkExpect(new MazeSolver(mapped).solve(0, 24, SearchType.BREADTH_FIRST).path, 
+				new MazeSolver(this.testBoard).solve(0, 24, SearchType.BREADTH_FIRST).path);
+
+		// A streamed maze goes straight to the file, row by row.
+		try (MazeFileWriter writer = new MazeFileWriter(path, 7, 3, 3)) {
+			new EllerGenerator(7, new Random(3)).generate(3, writer);
+		}
+		CompactMaze streamed = new CompactMaze(7, 3);
+		new EllerGenerator(7, new Random(3)).generate(3, streamed);
+		mapped = new MappedMaze(path);
+		t.checkExpect(mapped.walls(6, 2), 3);
+		for (int cell = 0; cell < 21; cell ++) {
+			t.checkExpect(mapped.walls(cell % 7, cell / 7), (int) streamed.cells[cell]);
+		}
+
+		// Rows must arrive in order, and all of them.
+		MazeFileWriter partial = new MazeFileWriter(path, 2, 2, 0);
+		t.checkException(new IllegalArgumentException("Expected row 0 but got row 1"), 
+				partial, "acceptRow", 1, new byte[] {3, 3});
+		partial.acceptRow(0, new byte[] {3, 3});
+		t.checkException(new IOException("Maze file has 1 of 2 rows"), partial, "close");
+		Files.write(path, new byte[] {1, 2, 3});
+		t.checkException(new IOException("Not a maze file: " + path), this, "openMaze", path);
+	}
+
+	/*
+	 * Opens a maze file, for checking the exceptions it throws.
+	 * 
+	 * @param path: maze file to open
+	 * @return: the opened maze
+	 */
+	MappedMaze openMaze(Path path) throws IOException {
+		return new MappedMaze(path);
+	}
+
+	/* Tests the MazeId class and the constructors that take one */
+	void testMazeId(Tester t) throws IOException, InterruptedException, ExecutionException {
+
+		MazeId id = new MazeId(5, 5, 25);
+		t.checkExpect(id.toString(), "5x5-0000000000000019");
+		t.checkExpect(MazeId.parse("5x5-0000000000000019"), id);
+		t.checkExpect(MazeId.parse(new MazeId(300, 2, -7).toString()), new MazeId(300, 2, -7));
+		t.checkExpect(id.equals(new MazeId(5, 5, 25)), true);
+		t.checkExpect(id.equals(new MazeId(5, 5, 26)), false);
+		t.checkExpect(id.equals(new MazeId(5, 4, 25)), false);
+		t.checkExpect(id.hashCode(), new MazeId(5, 5, 25).hashCode());
+		t.checkException(new IllegalArgumentException("Not a maze id: 5x5"), this, "parseId", "5x5");
+		t.checkException(new IllegalArgumentException("Not a maze id: 5xfive-19"),
+				this, "parseId", "5xfive-19");
+		t.checkException(new IllegalArgumentException("Maze must be at least 1x1, not 0x5"),
+				this, "parseId", "0x5-19");
+
+		// The same id always builds the same maze, as a Board or a CompactMaze.
+		int[][] sizes = {{1, 1}, {1, 6}, {6, 1}, {6, 4}, {40, 25}};
+		for (int[] size : sizes) {
+			MazeId sized = new MazeId(size[0], size[1], 25);
+			Board board = new Board(sized);
+			board.generate();
+			t.checkExpect(board.id, sized);
+			t.checkExpect(new CompactMaze(board).cells, sized.generate().cells);
+			t.checkExpect(new CompactMaze(sized).cells, sized.generate().cells);
+		}
+
+		// Large enough for walls of equal weight to decide the maze: both 
+		// forms must break those ties by wall number.
+		MazeId tied = new MazeId(500, 500, 4);
+		Board large = new Board(tied);
+		large.generate();
+		t.checkExpect(Arrays.equals(new CompactMaze(large).cells, tied.generate().cells), true);
+		t.checkExpect(Arrays.equals(new MazeId(40, 25, 1).generate().cells, 
+				new MazeId(40, 25, 2).generate().cells), false);
+		t.checkExpect(new Board(4, 3).id.width, 4);
+		t.checkExpect(new Board(4, 3).id.height, 3);
+
+		// Workers generating at once each draw from their own stream.
+		ExecutorService pool = Executors.newFixedThreadPool(4);
+		ArrayList<Future<CompactMaze>> mazes = new ArrayList<Future<CompactMaze>>();
+		for (long seed = 0; seed < 8; seed ++) {
+			MazeId each = new MazeId(60, 40, seed);
+			mazes.add(pool.submit(() -> each.generate()));
+		}
+		for (int seed = 0; seed < 8; seed ++) {
+			t.checkExpect(mazes.get(seed).get().cells, new MazeId(60, 40, seed).generate().cells);
+		}
+		pool.shutdown();
+
+		// A saved maze can be checked against the id it was generated from.
+		Path path = Files.createTempFile("maze", ".bin");
+		path.toFile().deleteOnExit();
+		MazeId saved = new MazeId(9, 7, 12345);
+		MazeFile.write(saved, path);
+		MappedMaze mapped = new MappedMaze(path);
+		t.checkExpect(mapped.id(), saved);
+		CompactMaze regenerated = mapped.id().generate();
+		for (int cell = 0; cell < 63; cell ++) {
+			t.checkExpect(mapped.walls(cell % 9, cell / 9), (int) regenerated.cells[cell]);
+		}
+	}
+
+	/*
+	 * Reads a maze id, for checking the exceptions it throws.
+	 *
+	 * @param text: id as written
+	 * @return: the id read
+	 */
+	MazeId parseId(String text) {
+		return MazeId.parse(text);
+	}
+
+	/*
+	 * Packs a path, for checking the exceptions it throws.
+	 *
+	 * @param path: positions to pack
+	 * @param width: width of the maze
+	 * @return: the packed path
+	 */
+	PackedPath packPath(int[] path, int width) {
+		return new PackedPath(path, width);
+	}
+
+	/* Tests the RadixSort class */
+	void testRadixSort(Tester t) {
+
+		long[] keys = {(7L << 32) | 0, (3L << 32) | 1, (7L << 32) | 2, (0L << 32) | 3, (3L << 32) | 4, 99};
+		RadixSort.sort(keys, 5);
+		// Equal weights keep their order, and keys past the count are left alone.
+		t.checkExpect(keys, new long[] {3, (3L << 32) | 1, (3L << 32) | 4, 7L << 32, (7L << 32) | 2, 99});
+
+		// Weights spanning several passes sort as a comparison sort would.
+		Random rand = new Random(25);
+		long[] many = new long[5000];
+		for (int i = 0; i < many.length; i ++) {
+			many[i] = ((long) rand.nextInt(1000000) << 32) | i;
+		}
+		long[] sorted = many.clone();
+		Arrays.sort(sorted);
+		RadixSort.sort(many, many.length);
+		t.checkExpect(many, sorted);
+
+		long[] none = {};
+		RadixSort.sort(none, 0);
+		t.checkExpect(none, new long[] {});
+	}
+
+	/* Tests the generateParallel method and the Boruvka class */
+	void testGenerateParallel(Tester t) {
+
+		ForkJoinPool pool = new ForkJoinPool(4);
+		int[][] sizes = {{1, 1}, {1, 6}, {6, 1}, {6, 4}, {40, 25}, {300, 200}};
+		for (int[] size : sizes) {
+			for (long seed = 1; seed <= 3; seed ++) {
+				// Boruvka's method builds exactly the maze Kruskal's does.
+				CompactMaze parallel = new CompactMaze(size[0], size[1]);
+				parallel.generateParallel(new Random(seed), pool);
+				t.checkExpect(parallel.cells, new CompactMaze(size[0], size[1], new Random(seed)).cells);
+			}
+		}
+		pool.shutdown();
+
+		// A single round joins every node with its lightest wall. Nodes 1 and 2
+		// pick the same wall, so the lower label, 1, stays the root.
+		CompactMaze line = new CompactMaze(3, 1);
+		Boruvka boruvka = new Boruvka(line, new int[] {5, 0, 2, 0, 0, 0});
+		boruvka.run(ForkJoinPool.commonPool());
+		t.checkExpect(boruvka.removed, new boolean[] {true, false, true, false, false, false});
+		t.checkExpect(boruvka.label, new int[] {1, 1, 1});
+		t.checkExpect(line.cells, new byte[] {2, 2, 3});
+	}
+
+	/* Tests the IntQueue class */
+	void testIntQueue(Tester t) {
+
+		IntQueue queue = new IntQueue(3);
+		t.checkExpect(queue.isEmpty(), true);
+		t.checkException(new NoSuchElementException("Queue is empty"), queue, "remove");
+		queue.add(4);
+		queue.add(7);
+		queue.add(1);
+		t.checkExpect(queue.size(), 3);
+		t.checkExpect(queue.peek(), 4);
+		t.checkException(new IllegalStateException("Queue is full: 3"), queue, "add", 2);
+		t.checkExpect(queue.remove(), 4);
+		t.checkExpect(queue.remove(), 7);
+
+		// Wraps around the end of the ring, keeping first-in, first-out order.
+		queue.add(2);
+		queue.add(9);
+		t.checkExpect(queue.remove(), 1);
+		t.checkExpect(queue.remove(), 2);
+		t.checkExpect(queue.remove(), 9);
+		t.checkExpect(queue.isEmpty(), true);
+
+		queue.add(5);
+		queue.clear();
+		t.checkExpect(queue.size(), 0);
+		t.checkException(new NoSuchElementException("Queue is empty"), queue, "peek");
+	}
+
+	/* Tests the IndexedMinHeap class */
+	void testIndexedMinHeap(Tester t) {
+
+		IndexedMinHeap heap = new IndexedMinHeap(6);
+		t.checkExpect(heap.isEmpty(), true);
+		heap.insert(0, 50, 5);
+		heap.insert(1, 40, 9);
+		heap.insert(2, 40, 3);
+		heap.insert(3, 70, 0);
+		heap.insert(4, 60, 1);
+		t.checkExpect(heap.isEmpty(), false);
+		t.checkExpect(heap.size(), 5);
+		t.checkExpect(heap.peekKey(), 40);
+		t.checkExpect(heap.contains(3), true);
+		t.checkExpect(heap.contains(5), false);
+
+		// Ties on the primary key go to the lower secondary key.
+		t.checkExpect(heap.pop(), 2);
+		t.checkExpect(heap.contains(2), false);
+		t.checkExpect(heap.pop(), 1);
+
+		heap.decreaseKey(3, 45, 0);
+		t.checkExpect(heap.pop(), 3);
+		t.checkExpect(heap.pop(), 0);
+		heap.insert(5, 10, 0);
+		t.checkExpect(heap.pop(), 5);
+		t.checkExpect(heap.pop(), 4);
+		t.checkExpect(heap.isEmpty(), true);
+
+		heap.insert(1, 1, 1);
+		heap.insert(2, 2, 2);
+		heap.clear();
+		t.checkExpect(heap.isEmpty(), true);
+		t.checkExpect(heap.contains(1), false);
+		t.checkExpect(heap.contains(2), false);
+
+	}
+
+	/* Tests the solve method of the MazeSolver class for every algorithm */
+	void testSolve(Tester t) {
+
+		this.initData();
+		Board b = this.testBoard;
+		b.generate();
+		MazeSolver solver = new MazeSolver(b);
+		SearchResult dfs = solver.solve(b.get(0, 0), b.target, SearchType.DEPTH_FIRST);
+		SearchResult bfs = solver.solve(b.get(0, 0), b.target, SearchType.BREADTH_FIRST);
+		SearchResult astar = solver.solve(b.get(0, 0), b.target, SearchType.A_STAR);
+		t.checkExpect(dfs.search, SearchType.DEPTH_FIRST);
+		t.checkExpect(bfs.search, SearchType.BREADTH_FIRST);
+		t.checkExpect(astar.search, SearchType.A_STAR);
+
+		// A perfect maze has exactly one path between any two nodes.
+		t.checkExpect(dfs.found(), true);
+		t.checkExpect(bfs.path, dfs.path);
+		t.checkExpect(astar.path, dfs.path);
+		t.checkExpect(dfs.path[0], 0);
+		t.checkExpect(dfs.path[dfs.path.length - 1], 24);
+		int[] out = new int[4];
+		for (int i = 1; i < dfs.path.length; i ++) {
+			int count = b.walls.neighbors(dfs.path[i - 1], out);
+			boolean adjacent = false;
+			for (int j = 0; j < count; j ++) {
+				adjacent = adjacent || out[j] == dfs.path[i];
+			}
+			t.checkExpect(adjacent, true);
+		}
+		t.checkExpect(dfs.explored >= dfs.path.length, true);
+		t.checkExpect(bfs.explored <= 25, true);
+		t.checkExpect(astar.explored <= 25, true);
+
+		// Solving never marks the nodes themselves.
+		t.checkExpect(b.get(0, 0).visited, false);
+		t.checkExpect(b.target.visited, false);
+
+		// Same start and goal.
+		SearchResult here = solver.solve(7, 7, SearchType.BREADTH_FIRST);
+		t.checkExpect(here.path, new int[] {7});
+		t.checkExpect(here.explored, 1);
+
+	}
+
+	/* Tests A* in the MazeSolver class with each heuristic and tie-break. */
+	void testSolveAStarOptions(Tester t) {
+
+		this.initData();
+		Board b = this.testBoard;
+		b.generate();
+		int[] path = new MazeSolver(b).solve(0, 24, SearchType.BREADTH_FIRST).path;
+		for (TieBreak tieBreak : TieBreak.values()) {
+			MazeSolver manhattan = new MazeSolver(b, new ManhattanHeuristic(), tieBreak);
+			MazeSolver octile = new MazeSolver(b, new OctileHeuristic(), tieBreak);
+			t.checkExpect(manhattan.solve(0, 24, SearchType.A_STAR).path, path);
+			t.checkExpect(octile.solve(0, 24, SearchType.A_STAR).path, path);
+			t.checkExpect(manhattan.solve(24, 0, SearchType.A_STAR).path.length, path.length);
+		}
+
+		// "G Costs" are the real path cost: the goal's equals its depth in steps.
+		MazeSolver solver = new MazeSolver(b);
+		solver.solve(0, 24, SearchType.A_STAR);
+		t.checkExpect(solver.cost[24], path.length - 1);
+		MazeSolver scaled = new MazeSolver(b, new OctileHeuristic(), TieBreak.LOWEST_H);
+		scaled.solve(0, 24, SearchType.A_STAR);
+		t.checkExpect(scaled.cost[24], 10 * (path.length - 1));
+
+	}
+
+	/* Tests that A* relaxes a "G Cost" when a cheaper path is found. */
+	void testSolveAStarRelaxes(Tester t) {
+
+		// An open 2x2 room has two routes to each corner; costs must stay minimal.
+		Board b = new Board(2, 2, true);
+		b.walls.right.clear();
+		b.walls.bottom.clear();
+		MazeSolver solver = new MazeSolver(b, new ManhattanHeuristic(), TieBreak.NONE);
+		SearchResult result = solver.solve(0, 3, SearchType.A_STAR);
+		t.checkExpect(result.path.length, 3);
+		t.checkExpect(solver.cost[1], 1);
+		t.checkExpect(solver.cost[2], 1);
+		t.checkExpect(solver.cost[3], 2);
+
+	}
+
+	/* Tests solving a maze with no path and the smallest maze. */
+	void testSolveEdgeCases(Tester t) {
+
+		this.initData();
+		Board b = this.testBoard1x2;
+		MazeSolver solver = new MazeSolver(b);
+		SearchResult none = solver.solve(b.get(0, 0), b.target, SearchType.BREADTH_FIRST);
+		t.checkExpect(none.found(), false);
+		t.checkExpect(none.explored, 1);
+		t.checkExpect(solver.solve(0, 1, SearchType.DEPTH_FIRST).found(), false);
+		t.checkExpect(solver.solve(0, 1, SearchType.A_STAR).found(), false);
+
+		b.generate();
+		SearchResult result = solver.solve(b.get(0, 0), b.target, SearchType.A_STAR);
+		t.checkExpect(result.path, new int[] {0, 1});
+		t.checkExpect(result.explored, 2);
+		t.checkExpect(result.pathNodes(b), 
+				new ArrayList<Node>(Arrays.asList(b.get(0, 0), b.get(0, 1))));
+		t.checkException(new IllegalArgumentException("Not a search algorithm: USER"),
+				solver, "solve", 0, 1, SearchType.USER);
+
+	}
+
+	/* Tests bidirectional BFS and A* in the MazeSolver and BidirectionalSearch classes */
+	void testSolveBidirectional(Tester t) {
+
+		this.initData();
+		Board b = this.testBoard;
+		b.generate();
+		MazeSolver solver = new MazeSolver(b);
+		int[] path = solver.solve(0, 24, SearchType.BREADTH_FIRST).path;
+		SearchResult bfs = solver.solve(0, 24, SearchType.BIDIRECTIONAL_BFS);
+		SearchResult astar = solver.solve(0, 24, SearchType.BIDIRECTIONAL_A_STAR);
+		t.checkExpect(bfs.search, SearchType.BIDIRECTIONAL_BFS);
+		t.checkExpect(astar.search, SearchType.BIDIRECTIONAL_A_STAR);
+		t.checkExpect(bfs.path, path);
+		t.checkExpect(astar.path, path);
+		t.checkExpect(bfs.explored <= 25, true);
+		t.checkExpect(astar.explored <= 25, true);
+		t.checkExpect(b.get(0, 0).visited, false);
+
+		// Between every pair of nodes, both ways find the one path there is.
+		for (int from = 0; from < 25; from ++) {
+			for (int to = 0; to < 25; to ++) {
+				int[] expected = solver.solve(from, to, SearchType.BREADTH_FIRST).path;
+				t.checkExpect(solver.solve(from, to, SearchType.BIDIRECTIONAL_BFS).path, expected);
+				t.checkExpect(solver.solve(from, to, SearchType.BIDIRECTIONAL_A_STAR).path, expected);
+			}
+		}
+		t.checkExpect(solver.solve(7, 7, SearchType.BIDIRECTIONAL_BFS).path, new int[] {7});
+		t.checkExpect(solver.solve(7, 7, SearchType.BIDIRECTIONAL_A_STAR).path, new int[] {7});
+
+		// Meeting in the middle explores far less of a large maze.
+		CompactMaze large = new MazeId(200, 200, 25).generate();
+		MazeSolver big = new MazeSolver(large);
+		int oneWay = 0;
+		int bothWays = 0;
+		int oneWayAStar = 0;
+		int bothWaysAStar = 0;
+		Random rand = new Random(25);
+		for (int i = 0; i < 20; i ++) {
+			int from = rand.nextInt(200 * 200);
+			int to = rand.nextInt(200 * 200);
+			SearchResult one = big.solve(from, to, SearchType.BREADTH_FIRST);
+			SearchResult both = big.solve(from, to, SearchType.BIDIRECTIONAL_BFS);
+			t.checkExpect(both.path, one.path);
+			oneWay += one.explored;
+			bothWays += both.explored;
+			oneWayAStar += big.solve(from, to, SearchType.A_STAR).explored;
+			bothWaysAStar += big.solve(from, to, SearchType.BIDIRECTIONAL_A_STAR).explored;
+		}
+		t.checkExpect(bothWays < oneWay, true);
+		t.checkExpect(bothWaysAStar < oneWayAStar, true);
+
+		// With loops, the first meeting need not be the shortest path.
+		CompactMaze room = new CompactMaze(9, 7);
+		Arrays.fill(room.cells, (byte) 0);
+		for (int y = 0; y < 7; y ++) {
+			room.cells[room.index(8, y)] |= CompactMaze.RIGHT;
+		}
+		for (int x = 0; x < 9; x ++) {
+			room.cells[room.index(x, 6)] |= CompactMaze.BOTTOM;
+		}
+		MazeSolver open = new MazeSolver(room);
+		for (int to = 0; to < 63; to ++) {
+			int steps = to % 9 + to / 9 + 1;
+			t.checkExpect(open.solve(0, to, SearchType.BIDIRECTIONAL_BFS).path.length, steps);
+			t.checkExpect(open.solve(0, to, SearchType.BIDIRECTIONAL_A_STAR).path.length, steps);
+		}
+
+		// No path: both frontiers run dry.
+		Board split = this.testBoard1x2;
+		MazeSolver none = new MazeSolver(split);
+		t.checkExpect(none.solve(0, 1, SearchType.BIDIRECTIONAL_BFS).found(), false);
+		t.checkExpect(none.solve(0, 1, SearchType.BIDIRECTIONAL_BFS).explored, 2);
+		t.checkExpect(none.solve(0, 1, SearchType.BIDIRECTIONAL_A_STAR).found(), false);
+
+		// Stepping by hand reports what each step explored, then -1 when done.
+		BidirectionalSearch steps = new BidirectionalSearch(b, new ManhattanHeuristic(), TieBreak.LOWEST_H);
+		t.checkException(new IllegalArgumentException("Not a bidirectional search: A_STAR"),
+				steps, "begin", 0, 24, SearchType.A_STAR);
+		steps.begin(0, 24, SearchType.BIDIRECTIONAL_A_STAR);
+		int[] out = new int[4];
+		t.checkExpect(steps.step(out), 1);
+		t.checkExpect(out[0], 0);
+		t.checkExpect(steps.step(out), 1);
+		t.checkExpect(out[0], 24);
+		while (steps.step(out) >= 0) {
+			t.checkExpect(steps.closed[0].get(out[0]) || steps.closed[1].get(out[0]), true);
+		}
+		t.checkExpect(steps.step(out), -1);
+		t.checkExpect(steps.result().path, path);
+
+	}
+
+	/* Tests the MazeTree class */
+	void testMazeTree(Tester t) {
+
+		this.initData();
+		Board b = this.testBoard;
+		b.generate();
+		MazeTree tree = new MazeTree(b);
+		MazeSolver solver = new MazeSolver(b);
+		t.checkExpect(tree.parent[0], -1);
+		t.checkExpect(tree.depth[0], 0);
+		t.checkExpect(tree.tour.length, 49);
+		t.checkExpect(tree.depth[24], solver.solve(0, 24, SearchType.BREADTH_FIRST).path.length - 1);
+
+		// Every path from the index is the one path a search would find.
+		for (int a = 0; a < 25; a ++) {
+			t.checkExpect(tree.ancestor(a, a), a);
+			t.checkExpect(tree.ancestor(0, a), 0);
+			for (int b2 = 0; b2 < 25; b2 ++) {
+				int[] path = solver.solve(a, b2, SearchType.BREADTH_FIRST).path;
+				t.checkExpect(tree.path(a, b2), path);
+				t.checkExpect(tree.distance(a, b2), path.length - 1);
+				t.checkExpect(tree.ancestor(a, b2), tree.ancestor(b2, a));
+			}
+		}
+
+		// Large enough for the sparse table to span many blocks.
+		CompactMaze large = new MazeId(120, 90, 25).generate();
+		MazeTree big = new MazeTree(large);
+		MazeSolver search = new MazeSolver(large);
+		Random rand = new Random(25);
+		for (int i = 0; i < 200; i ++) {
+			int from = rand.nextInt(120 * 90);
+			int to = rand.nextInt(120 * 90);
+			int[] path = search.solve(from, to, SearchType.BREADTH_FIRST).path;
+			t.checkExpect(big.path(from, to), path);
+			t.checkExpect(big.distance(from, to), path.length - 1);
+		}
+
+		t.checkExpect(new MazeTree(new CompactMaze(1, 1)).path(0, 0), new int[] {0});
+
+		// Only a perfect maze is a tree.
+		t.checkException(new IllegalArgumentException("Maze is not perfect: 1 nodes cannot be reached"),
+				this, "indexTree", this.testBoard1x2);
+		CompactMaze room = new CompactMaze(2, 2);
+		Arrays.fill(room.cells, (byte) 0);
+		t.checkException(new IllegalArgumentException("Maze is not perfect: it has a loop at node 0"),
+				this, "indexTree", room);
+
+	}
+
+	/*
+	 * Indexes a maze as a tree, for checking the exceptions it throws.
+	 * 
+	 * @param maze: maze to index
+	 * @return: the index
+	 */
+	MazeTree indexTree(IMaze maze) {
+		return new MazeTree(maze);
+	}
+
+	/* Tests the DistanceField class and the distanceField methods of Board */
+	void testDistanceField(Tester t) {
+
+		this.initData();
+		Board b = this.testBoard;
+		b.generate();
+		MazeSolver solver = new MazeSolver(b);
+		DistanceField field = b.distanceField();
+		t.checkExpect(field.target, 24);
+		t.checkExpect(field.distance[24], 0);
+		t.checkExpect(field.next(24), -1);
+		int farthest = 0;
+		for (int cell = 0; cell < 25; cell ++) {
+			// Walking down the field follows the one path to the target.
+			int[] path = solver.solve(cell, 24, SearchType.BREADTH_FIRST).path;
+			t.checkExpect(field.distance[cell], path.length - 1);
+			t.checkExpect(field.pathFrom(cell), path);
+			farthest = Math.max(farthest, path.length - 1);
+		}
+		t.checkExpect(field.farthest, farthest);
+
+		// The field is kept until the maze is generated again.
+		t.checkExpect(b.distanceField() == field, true);
+		t.checkExpect(b.distanceField(ForkJoinPool.commonPool()) == field, true);
+		b.generate();
+		t.checkExpect(b.distanceField() == field, false);
+
+		// Flooding in parallel measures the same distances, even on levels
+		// wide enough to split across threads.
+		ForkJoinPool pool = new ForkJoinPool(4);
+		CompactMaze large = new MazeId(300, 200, 25).generate();
+		t.checkExpect(new DistanceField(large, 0, pool).distance, 
+				new DistanceField(large, 0).distance);
+		t.checkExpect(new DistanceField(large, 30000, pool).farthest, 
+				new DistanceField(large, 30000).farthest);
+		CompactMaze room = new CompactMaze(1500, 1000);
+		Arrays.fill(room.cells, (byte) 0);
+		int middle = room.index(750, 500);
+		DistanceField wide = new DistanceField(room, middle, pool);
+		t.checkExpect(wide.distance, new DistanceField(room, middle).distance);
+		t.checkExpect(wide.distance[0], 1250);
+		t.checkExpect(wide.farthest, 1250);
+		t.checkExpect(wide.pathFrom(0).length, 1251);
+		t.checkExpect(wide.seen, null);
+		Board other = new Board(new MazeId(40, 30, 7));
+		other.generate();
+		t.checkExpect(other.distanceField(pool).distance, 
+				new DistanceField(other, other.index(other.target)).distance);
+		pool.shutdown();
+
+		// Nodes that cannot reach the target have no distance.
+		DistanceField apart = this.testBoard1x2.distanceField();
+		t.checkExpect(apart.distance, new int[] {-1, 0});
+		t.checkExpect(apart.next(0), -1);
+		t.checkExpect(apart.pathFrom(0), new int[0]);
+		t.checkExpect(apart.farthest, 0);
+
+	}
+
+	/* Tests the SharedSolver class, solving one board on many threads at once */
+	void testSharedSolver(Tester t) throws InterruptedException, ExecutionException {
+
+		Board b = new Board(new MazeId(60, 40, 25));
+		b.generate();
+		SharedSolver shared = new SharedSolver(b);
+		MazeSolver alone = new MazeSolver(b);
+		Random rand = new Random(25);
+		int[] starts = new int[50];
+		int[] goals = new int[50];
+		for (int i = 0; i < starts.length; i ++) {
+			starts[i] = rand.nextInt(60 * 40);
+			goals[i] = rand.nextInt(60 * 40);
+		}
+
+		// A batch across a pool matches solving each pair on one thread.
+		ForkJoinPool pool = new ForkJoinPool(4);
+		for (SearchType search : new SearchType[] {SearchType.DEPTH_FIRST, SearchType.BREADTH_FIRST, 
+				SearchType.A_STAR, SearchType.BIDIRECTIONAL_BFS, SearchType.BIDIRECTIONAL_A_STAR}) {
+			SearchResult[] results = shared.solveAll(starts, goals, search, pool);
+			for (int i = 0; i < starts.length; i ++) {
+				SearchResult expected = alone.solve(starts[i], goals[i], search);
+				t.checkExpect(results[i].path, expected.path);
+				t.checkExpect(results[i].explored, expected.explored);
+			}
+		}
+		pool.shutdown();
+
+		// Threads calling solve at once each search with their own state.
+		ExecutorService threads = Executors.newFixedThreadPool(4);
+		ArrayList<Future<SearchResult>> results = new ArrayList<Future<SearchResult>>();
+		for (int i = 0; i < starts.length; i ++) {
+			int start = starts[i];
+			int goal = goals[i];
+			results.add(threads.submit(() -> shared.solve(start, goal, SearchType.A_STAR)));
+		}
+		for (int i = 0; i < starts.length; i ++) {
+			t.checkExpect(results.get(i).get().path, alone.solve(starts[i], goals[i], SearchType.A_STAR).path);
+		}
+		threads.shutdown();
+
+		// Solvers in use at once are never shared; given back, they are reused.
+		SharedSolver owned = new SharedSolver(b);
+		MazeSolver held = owned.borrow();
+		MazeSolver second = owned.borrow();
+		t.checkExpect(held == second, false);
+		owned.giveBack(second);
+		t.checkExpect(owned.borrow() == second, true);
+		owned.giveBack(second);
+		t.checkExpect(owned.idle.size(), 1);
+
+		// Solvers stay with the SharedSolver: no more than ran at once.
+		owned.solve(0, 60 * 40 - 1, SearchType.A_STAR);
+		owned.solve(0, 60 * 40 - 1, SearchType.BREADTH_FIRST);
+		t.checkExpect(owned.idle.size(), 1);
+		ForkJoinPool four = new ForkJoinPool(4);
+		owned.solveAll(starts, goals, SearchType.A_STAR, four);
+		t.checkExpect(owned.idle.size() >= 1 && owned.idle.size() <= 4, true);
+		four.shutdown();
+
+		// The board itself is never marked by a search.
+		boolean untouched = true;
+		for (int cell = 0; cell < 60 * 40; cell ++) {
+			untouched = untouched && !b.get(cell).visited && b.get(cell).g_cost == 0;
+		}
+		t.checkExpect(untouched, true);
+		t.checkException(new IllegalArgumentException("Got 2 starts but 1 goals"), 
+				shared, "solveAll", new int[] {0, 1}, new int[] {0}, SearchType.A_STAR, ForkJoinPool.commonPool());
+
+	}
+
+	/* Tests the LatencyHistogram class */
+	void testLatencyHistogram(Tester t) {
+
+		LatencyHistogram histogram = new LatencyHistogram();
+		t.checkExpect(histogram.percentile(50), 0L);
+		// Small values have a bucket each; larger ones share eighths of a power of two.
+		t.checkExpect(LatencyHistogram.bucket(5), 5);
+		t.checkExpect(LatencyHistogram.upperBound(LatencyHistogram.bucket(15)), 15L);
+		t.checkExpect(LatencyHistogram.bucket(16), LatencyHistogram.bucket(17));
+		t.checkExpect(LatencyHistogram.upperBound(LatencyHistogram.bucket(16)), 17L);
+		t.checkExpect(LatencyHistogram.upperBound(LatencyHistogram.bucket(1000)), 1023L);
+		t.checkExpect(LatencyHistogram.upperBound(LatencyHistogram.bucket(Long.MAX_VALUE)), Long.MAX_VALUE);
+		for (long value = 8; value < 1 << 20; value = value * 3 / 2) {
+			long upper = LatencyHistogram.upperBound(LatencyHistogram.bucket(value));
+			t.checkExpect(upper >= value && upper <= value + value / 8, true);
+		}
+
+		for (int i = 1; i <= 100; i ++) {
+			histogram.record(i * 1000);
+		}
+		histogram.record(-5);
+		t.checkExpect(histogram.count(), 101L);
+		t.checkExpect(histogram.percentile(0), 0L);
+		t.checkExpect(histogram.percentile(50), 53247L);
+		t.checkExpect(histogram.percentile(99), 106495L);
+		t.checkExpect(histogram.percentile(100), 106495L);
+
+	}
+
+	/* Tests the BoardCache class */
+	void testBoardCache(Tester t) {
+
+		MazeId a = new MazeId(30, 20, 25);
+		MazeId b = new MazeId(30, 20, 26);
+		MazeId c = new MazeId(20, 30, 1);
+		BoardCache cache = new BoardCache(1500 * BoardCache.NODE_BYTES);
+
+		// A miss generates the board; a hit hands back the same one.
+		Board first = cache.get(a);
+		t.checkExpect(new CompactMaze(first).cells, a.generate().cells);
+		t.checkExpect(cache.get(a) == first, true);
+		t.checkExpect(cache.get(new MazeId(30, 20, 25)) == first, true);
+		t.checkExpect(cache.hits.get(), 2L);
+		t.checkExpect(cache.misses.get(), 1L);
+		t.checkExpect(cache.size, 600 * BoardCache.NODE_BYTES);
+		t.checkExpect(BoardCache.bytes(a), 600 * BoardCache.NODE_BYTES);
+
+		// The least recently used board goes first, by estimated size.
+		cache.get(b);
+		cache.get(a);
+		cache.get(c);
+		t.checkExpect(cache.contains(a), true);
+		t.checkExpect(cache.contains(b), false);
+		t.checkExpect(cache.contains(c), true);
+		t.checkExpect(cache.count(), 2);
+		t.checkExpect(cache.size, 1200 * BoardCache.NODE_BYTES);
+		t.checkExpect(cache.evictions.get(), 1L);
+		t.checkExpect(cache.misses.get(), 3L);
+
+		// A board over the whole budget is handed out, but not kept.
+		MazeId huge = new MazeId(50, 50, 3);
+		Board big = cache.get(huge);
+		t.checkExpect(big.width, 50);
+		t.checkExpect(cache.contains(huge), false);
+		t.checkExpect(cache.get(huge) == big, false);
+		t.checkExpect(cache.size, 1200 * BoardCache.NODE_BYTES);
+
+		// A board stored by another thread first is the one everyone gets.
+		Board late = new Board(a);
+		late.generate();
+		t.checkExpect(cache.put(a, late) == first, true);
+
+	}
+
+	/* Tests the PackedPath class */
+	void testPackedPath(Tester t) {
+
+		// 0 1 2
+		// 3 4 5, walked 0 -> 1 -> 4 -> 3, then back up and across.
+		int[] walk = {0, 1, 4, 3, 0, 1, 2, 5};
+		PackedPath packed = new PackedPath(walk, 3);
+		t.checkExpect(packed.start, 0);
+		t.checkExpect(packed.length, 8);
+		t.checkExpect(packed.steps.length, 1);
+		t.checkExpect(packed.steps[0], 1L | 3L << 2 | 0L << 4 | 2L << 6 | 1L << 8 | 1L << 10 | 3L << 12);
+		t.checkExpect(packed.unpack(3), walk);
+		t.checkExpect(packed.slice(2, 5, 3), new int[] {4, 3, 0, 1});
+		t.checkExpect(packed.slice(5, 2, 3), new int[] {1, 0, 3, 4});
+		t.checkExpect(packed.slice(7, 7, 3), new int[] {5});
+		t.checkExpect(new PackedPath(new int[] {7}, 3).unpack(3), new int[] {7});
+		t.checkException(new IllegalArgumentException("Not a step: 0 to 2"),
+				this, "packPath", new int[] {0, 2}, 3);
+
+		// Long paths spill over into more longs.
+		int[] row = new int[100];
+		for (int i = 0; i < 100; i ++) {
+			row[i] = i;
+		}
+		PackedPath across = new PackedPath(row, 100);
+		t.checkExpect(across.steps.length, 4);
+		t.checkExpect(across.unpack(100), row);
+		t.checkExpect(across.bytes(), SolutionCache.ENTRY_BYTES + 32 + 100 * SolutionCache.STEP_BYTES);
+		t.checkExpect(across.end, 99);
+
+	}
+
+	/* Tests the SolutionCache class and the solutions method of Board */
+	void testSolutionCache(Tester t) {
+
+		Board board = new Board(new MazeId(30, 20, 25));
+		board.generate();
+		MazeSolver solver = new MazeSolver(board);
+		SolutionCache cache = board.solutions();
+		t.checkExpect(board.solutions() == cache, true);
+
+		// A miss runs the search; the same request then comes from the cache.
+		SearchResult first = cache.solve(solver, 0, 599, SearchType.A_STAR);
+		t.checkExpect(first.explored > 0, true);
+		t.checkExpect(cache.misses.get(), 1L);
+		SearchResult again = cache.solve(solver, 0, 599, SearchType.BREADTH_FIRST);
+		t.checkExpect(again.path, first.path);
+		t.checkExpect(again.explored, 0);
+		t.checkExpect(again.search, SearchType.BREADTH_FIRST);
+		t.checkExpect(cache.hits.get(), 1L);
+
+		// Swapped ends and any part of a stored path need no search either.
+		int[] back = cache.solve(solver, 599, 0, SearchType.A_STAR).path;
+		t.checkExpect(back, solver.solve(599, 0, SearchType.BREADTH_FIRST).path);
+		int a = first.path[first.path.length / 3];
+		int b = first.path[2 * first.path.length / 3];
+		t.checkExpect(cache.lookup(a, b), solver.solve(a, b, SearchType.BREADTH_FIRST).path);
+		t.checkExpect(cache.lookup(b, a), solver.solve(b, a, SearchType.BREADTH_FIRST).path);
+		t.checkExpect(cache.lookup(a, a), new int[] {a});
+		t.checkExpect(cache.subPaths.get(), 2L);
+		t.checkExpect(cache.count(), 1);
+
+		// Other paths are searched for, and stored.
+		int off = 0;
+		while (off < 600 && cache.lookup(off, 599) != null) {
+			off ++;
+		}
+		t.checkExpect(cache.solve(solver, off, 599, SearchType.A_STAR).path, 
+				solver.solve(off, 599, SearchType.A_STAR).path);
+		t.checkExpect(cache.count(), 2);
+
+		// Sub-paths are found through the cells' index, from either end.
+		SolutionCache indexed = new SolutionCache(30, 20, 1 << 16);
+		indexed.store(new int[] {0, 1, 2, 3});
+		indexed.store(new int[] {3, 33, 63});
+		t.checkExpect(indexed.lookup(1, 3), new int[] {1, 2, 3});
+		t.checkExpect(indexed.lookup(33, 3), new int[] {33, 3});
+		t.checkExpect(indexed.lookup(63, 33), new int[] {63, 33});
+		t.checkExpect(indexed.lookup(1, 33), null);
+		t.checkExpect(indexed.lookup(4, 5), null);
+		t.checkExpect(indexed.subPaths.get(), 3L);
+		t.checkExpect(indexed.misses.get(), 2L);
+		t.checkExpect(indexed.entries, 7);
+
+		// Past the budget, the least recently used path goes first, and 
+		// its index entries are freed for the next path.
+		long pair = SolutionCache.ENTRY_BYTES + 8 + 2 * SolutionCache.STEP_BYTES;
+		SolutionCache small = new SolutionCache(30, 20, 2 * pair);
+		small.store(new int[] {0, 1});
+		small.store(new int[] {0, 30});
+		t.checkExpect(small.size, 2 * pair);
+		t.checkExpect(small.lookup(0, 1), new int[] {0, 1});
+		small.store(new int[] {5, 6});
+		t.checkExpect(small.count(), 2);
+		t.checkExpect(small.evictions.get(), 1L);
+		t.checkExpect(small.paths.containsKey(SolutionCache.key(0, 30)), false);
+		t.checkExpect(small.paths.containsKey(SolutionCache.key(0, 1)), true);
+		t.checkExpect(small.first[30], -1);
+		t.checkExpect(small.next[small.first[0]], -1);
+		t.checkExpect(small.lookup(6, 5), new int[] {6, 5});
+		t.checkExpect(small.lookup(0, 30), null);
+		t.checkExpect(small.entries, 4);
+		small.store(new int[0]);
+		t.checkExpect(small.count(), 2);
+		t.checkExpect(small.size, 2 * pair);
+
+		// A new maze starts with nothing solved.
+		board.generate();
+		t.checkExpect(board.solutions() == cache, false);
+
+	}
+
+	/* Tests the SearchMetrics and SearchMeter classes, the sinks and frontier peaks */
+	void testSearchMetrics(Tester t) throws InterruptedException {
+
+		// In a corridor, DFS holds the whole path; BFS and A* one node at a time.
+		Board corridor = new Board(new MazeId(5, 1, 25));
+		corridor.generate();
+		MazeSolver line = new MazeSolver(corridor);
+		t.checkExpect(line.solve(0, 4, SearchType.DEPTH_FIRST).frontier, 5);
+		t.checkExpect(line.solve(0, 4, SearchType.BREADTH_FIRST).frontier, 1);
+		t.checkExpect(line.solve(0, 4, SearchType.A_STAR).frontier, 1);
+		t.checkExpect(line.solve(0, 4, SearchType.BIDIRECTIONAL_BFS).frontier, 2);
+		t.checkExpect(line.solve(0, 4, SearchType.BIDIRECTIONAL_A_STAR).frontier, 2);
+
+		Board board = new Board(new MazeId(30, 20, 25));
+		board.generate();
+		MazeSolver solver = new MazeSolver(board);
+		for (SearchType search : new SearchType[] {SearchType.DEPTH_FIRST, SearchType.BREADTH_FIRST, 
+				SearchType.A_STAR, SearchType.BIDIRECTIONAL_BFS, SearchType.BIDIRECTIONAL_A_STAR}) {
+			SearchResult result = solver.solve(0, 599, search);
+			t.checkExpect(result.frontier > 0 && result.frontier <= result.explored, true);
+		}
+		t.checkExpect(new SearchResult(SearchType.A_STAR, new int[0], 3).frontier, 0);
+
+		// Metered runs land in the sink, one histogram count per measure.
+		HistogramSink runs = new HistogramSink();
+		SearchResult found = SearchMeter.solve(solver, 0, 599, SearchType.A_STAR, runs);
+		SearchMeter.solve(solver, 0, 599, SearchType.A_STAR, runs);
+		SearchMeter.solve(solver, 5, 300, SearchType.BREADTH_FIRST, runs);
+		t.checkExpect(found.path, solver.solve(0, 599, SearchType.A_STAR).path);
+		t.checkExpect(runs.count(SearchType.A_STAR), 2L);
+		t.checkExpect(runs.count(SearchType.BREADTH_FIRST), 1L);
+		t.checkExpect(runs.count(SearchType.DEPTH_FIRST), 0L);
+		LatencyHistogram expansions = runs.expansions.get(SearchType.A_STAR);
+		t.checkExpect(expansions.percentile(100) >= found.explored 
+				&& expansions.percentile(100) <= found.explored * 9 / 8, true);
+		t.checkExpect(runs.wallNanos.get(SearchType.A_STAR).percentile(50) > 0, true);
+		t.checkExpect(runs.frontierPeak.get(SearchType.A_STAR).count(), 2L);
+
+		// Only allocations made while resumed are counted.
+		SearchMeter meter = new SearchMeter();
+		meter.resume();
+		int[] counted = new int[100000];
+		meter.pause();
+		int[] skipped = new int[100000];
+		meter.frontier(7);
+		meter.frontier(3);
+		SearchMetrics run = meter.finish(SearchType.USER, 10, 20, 30, 40);
+		t.checkExpect(counted.length + skipped.length, 200000);
+		t.checkExpect(run.allocatedBytes >= 400000 && run.allocatedBytes < 800000, true);
+		t.checkExpect(run.wallNanos > 0, true);
+		t.checkExpect(run.frontierPeak, 7);
+		t.checkExpect(run.expansions, 30);
+		t.checkExpect(run.pathLength, 40);
+
+		// A virtual thread has no allocation counter, so its bytes are unknown.
+		HistogramSink virtual = new HistogramSink();
+		SearchMetrics[] unmetered = new SearchMetrics[1];
+		Thread.ofVirtual().start(() -> SearchMeter.solve(solver, 0, 599, SearchType.A_STAR, 
+				metrics -> {
+					unmetered[0] = metrics;
+					virtual.record(metrics);
+				})).join();
+		t.checkExpect(unmetered[0].allocatedBytes, -1L);
+		t.checkExpect(virtual.count(SearchType.A_STAR), 1L);
+		t.checkExpect(virtual.allocatedBytes.get(SearchType.A_STAR).count(), 0L);
+
+		// Records are written as CSV rows, after a header, or as JSON lines.
+		SearchMetrics a = new SearchMetrics(SearchType.A_STAR, 30, 20, 120, 14, 57, 81234, 4096);
+		SearchMetrics b = new SearchMetrics(SearchType.DEPTH_FIRST, 5, 1, 5, 5, 5, 900, -1);
+		StringBuilder csv = new StringBuilder();
+		CsvSink rows = new CsvSink(csv);
+		rows.record(a);
+		rows.record(b);
+		t.checkExpect(csv.toString(), 
+				"algorithm,width,height,expansions,frontier_peak,path_length,wall_nanos,allocated_bytes\n"
+				+ "A_STAR,30,20,120,14,57,81234,4096\n"
+				+ "DEPTH_FIRST,5,1,5,5,5,900,-1\n");
+		StringBuilder json = new StringBuilder();
+		JsonLinesSink lines = new JsonLinesSink(json);
+		lines.record(a);
+		lines.record(b);
+		t.checkExpect(json.toString(), 
+				"{\"algorithm\":\"A_STAR\",\"width\":30,\"height\":20,\"expansions\":120,"
+				+ "\"frontier_peak\":14,\"path_length\":57,\"wall_nanos\":81234,\"allocated_bytes\":4096}\n"
+				+ "{\"algorithm\":\"DEPTH_FIRST\",\"width\":5,\"height\":1,\"expansions\":5,"
+				+ "\"frontier_peak\":5,\"path_length\":5,\"wall_nanos\":900,\"allocated_bytes\":-1}\n");
+
+		// Unknown allocations are left out of the histogram.
+		runs.record(b);
+		t.checkExpect(runs.count(SearchType.DEPTH_FIRST), 1L);
+		t.checkExpect(runs.allocatedBytes.get(SearchType.DEPTH_FIRST).count(), 0L);
+
+	}
+
+	/* Tests the SolveService class, and the SolveLane and SolveRequest classes */
+	void testSolveService(Tester t) throws InterruptedException, ExecutionException {
+
+		MazeId[] ids = {new MazeId(30, 20, 25), new MazeId(30, 20, 26), new MazeId(20, 30, 1)};
+		MazeSolver[] solvers = new MazeSolver[ids.length];
+		for (int i = 0; i < ids.length; i ++) {
+			Board board = new Board(ids[i]);
+			board.generate();
+			solvers[i] = new MazeSolver(board);
+		}
+
+		// Many in-process clients at once, each on a virtual thread of its own.
+		SolveService service = new SolveService();
+		ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+		ArrayList<Future<SearchResult>> answers = new ArrayList<Future<SearchResult>>();
+		for (int i = 0; i < 300; i ++) {
+			MazeId id = ids[i % 3];
+			int start = (i * 7) % 600;
+			int goal = (i * 13 + 5) % 599;
+			answers.add(clients.submit(() -> service.solve(id, start, goal, SearchType.A_STAR)));
+		}
+		// Which requests find their path already cached depends on the order
+		// they ran in; each one either searched or was counted as a hit.
+		int[] cached = new int[ids.length];
+		for (int i = 0; i < 300; i ++) {
+			SearchResult expected = solvers[i % 3].solve((i * 7) % 600, (i * 13 + 5) % 599, SearchType.A_STAR);
+			SearchResult answer = answers.get(i).get();
+			t.checkExpect(answer.path, expected.path);
+			if (answer.explored == 0) {
+				cached[i % 3] ++;
+			} else {
+				t.checkExpect(answer.explored, expected.explored);
+			}
+		}
+		clients.close();
+		t.checkExpect(service.latency.count(), 300L);
+		t.checkExpect(service.latency.percentile(50) <= service.latency.percentile(99), true);
+		t.checkExpect(service.latency.percentile(99) > 0, true);
+		t.checkExpect(service.loads.get() >= 3, true);
+		t.checkExpect(service.batches.get() <= 300, true);
+		t.checkExpect(service.boards.misses.get(), 3L);
+		t.checkExpect(service.boards.hits.get(), service.loads.get() - 3);
+		for (int k = 0; k < ids.length; k ++) {
+			SolutionCache solved = service.boards.get(ids[k]).solutions();
+			t.checkExpect(solved.hits.get() + solved.subPaths.get(), (long) cached[k]);
+			t.checkExpect(solved.misses.get(), 100L - cached[k]);
+		}
+
+		// Requests for the target come straight from the distance field.
+		SearchResult home = service.solve(ids[0], 3, 599, SearchType.BREADTH_FIRST);
+		t.checkExpect(home.path, solvers[0].solve(3, 599, SearchType.BREADTH_FIRST).path);
+		t.checkExpect(home.explored, 0);
+		t.checkExpect(home.search, SearchType.BREADTH_FIRST);
+
+		// One client at a time: exactly the repeats are answered from the cache.
+		SolveService fresh = new SolveService();
+		SearchResult opening = fresh.solve(ids[2], 7, 450, SearchType.A_STAR);
+		int[] first = opening.path;
+		t.checkExpect(opening.explored, solvers[2].solve(7, 450, SearchType.A_STAR).explored);
+		BitSet onFirst = new BitSet();
+		for (int cell : first) {
+			onFirst.set(cell);
+		}
+		int off = onFirst.nextClearBit(0);
+		int[][] asked = {{7, 450}, {450, 7}, 
+				{first[first.length / 3], first[2 * first.length / 3]}, {7, off}, {7, 599}};
+		int[] explored = new int[asked.length];
+		for (int i = 0; i < asked.length; i ++) {
+			SearchResult answer = fresh.solve(ids[2], asked[i][0], asked[i][1], SearchType.A_STAR);
+			t.checkExpect(answer.path, solvers[2].solve(asked[i][0], asked[i][1], SearchType.A_STAR).path);
+			explored[i] = answer.explored;
+		}
+		t.checkExpect(explored[0], 0);
+		t.checkExpect(explored[1], 0);
+		t.checkExpect(explored[2], 0);
+		t.checkExpect(explored[3], solvers[2].solve(7, off, SearchType.A_STAR).explored);
+		t.checkExpect(explored[3] > 0, true);
+		t.checkExpect(explored[4], 0);
+		SolutionCache solved = fresh.boards.get(ids[2]).solutions();
+		t.checkExpect(solved.misses.get(), 2L);
+		t.checkExpect(solved.hits.get(), 2L);
+		t.checkExpect(solved.subPaths.get(), 1L);
+		t.checkExpect(solved.count(), 2);
+		fresh.close();
+
+		// Requests waiting in one lane are answered in one batch, on one load.
+		SolveService batching = new SolveService();
+		SolveLane lane = new SolveLane(ids[1]);
+		lane.running = true;
+		batching.lanes.put(ids[1], lane);
+		ArrayList<CompletableFuture<SearchResult>> waiting = new ArrayList<CompletableFuture<SearchResult>>();
+		for (int goal = 0; goal < 20; goal ++) {
+			SolveRequest request = new SolveRequest(ids[1], 0, goal, SearchType.BIDIRECTIONAL_BFS);
+			lane.waiting.add(request);
+			waiting.add(request.result);
+		}
+		batching.drain(lane);
+		t.checkExpect(batching.batches.get(), 1L);
+		t.checkExpect(batching.loads.get(), 1L);
+		t.checkExpect(batching.lanes.isEmpty(), true);
+		t.checkExpect(lane.running, false);
+		for (int goal = 0; goal < 20; goal ++) {
+			t.checkExpect(waiting.get(goal).get().path, solvers[1].solve(0, goal, SearchType.BREADTH_FIRST).path);
+		}
+
+		// Bad requests fail their own future, and the lane carries on.
+		t.checkException(new IllegalArgumentException("Position out of maze 30x20-0000000000000019: 0 to 600"),
+				this, "solveThrough", service, ids[0], 0, 600, SearchType.A_STAR);
+		t.checkException(new IllegalArgumentException("Not a search algorithm: USER"),
+				this, "solveThrough", service, ids[0], 0, 599, SearchType.USER);
+		t.checkExpect(service.solve(ids[0], 0, 1, SearchType.DEPTH_FIRST).found(), true);
+		service.close();
+		batching.close();
+
+		// A closed service fails new requests instead of leaving them queued.
+		t.checkException(new RejectedExecutionException(), 
+				this, "solveThrough", service, ids[2], 0, 1, SearchType.A_STAR);
+		t.checkExpect(service.lanes.isEmpty(), true);
+
+		// An Error fails the request that hit it and every one behind it, and
+		// closes the lane, so later requests open a new one.
+		BoardCache full = new BoardCache(0) {
+			public Board get(MazeId id) {
+				throw new OutOfMemoryError("No room for " + id);
+			}
+		};
+		SolveService failing = new SolveService(full);
+		SolveLane stuck = new SolveLane(ids[0]);
+		stuck.running = true;
+		failing.lanes.put(ids[0], stuck);
+		ArrayList<CompletableFuture<SearchResult>> behind = new ArrayList<CompletableFuture<SearchResult>>();
+		for (int goal = 0; goal < 3; goal ++) {
+			SolveRequest request = new SolveRequest(ids[0], 0, goal, SearchType.A_STAR);
+			stuck.waiting.add(request);
+			behind.add(request.result);
+		}
+		String noRoom = "java.lang.OutOfMemoryError: No room for 30x20-0000000000000019";
+		t.checkExpect(this.drainFailure(failing, stuck), noRoom);
+		t.checkExpect(failing.lanes.isEmpty(), true);
+		t.checkExpect(stuck.running, false);
+		for (CompletableFuture<SearchResult> request : behind) {
+			t.checkExpect(this.failureOf(request), noRoom);
+		}
+		t.checkExpect(this.failureOf(failing.submit(ids[0], 0, 1, SearchType.A_STAR)), noRoom);
+		failing.close();
+
+	}
+
+	/*
+	 * Solves through a service, for checking the exceptions its answers carry.
+	 * 
+	 * @return: the result of the request
+	 */
+	SearchResult solveThrough(SolveService service, MazeId maze, int start, int goal, SearchType search) {
+		try {
+			return service.solve(maze, start, goal, search);
+		} catch (CompletionException e) {
+			throw (RuntimeException) e.getCause();
+		}
+	}
+
+	/*
+	 * Drains a lane, for checking the errors that abandon it.
+	 * 
+	 * @return: the error thrown, or "drained" if there was none
+	 */
+	String drainFailure(SolveService service, SolveLane lane) {
+		try {
+			service.drain(lane);
+			return "drained";
+		} catch (Error e) {
+			return e.toString();
+		}
+	}
+
+	/*
+	 * Waits for a request, for checking what failed it.
+	 * 
+	 * @return: the failure, or "answered" if there was none
+	 */
+	String failureOf(CompletableFuture<SearchResult> request) {
+		try {
+			request.join();
+			return "answered";
+		} catch (CompletionException e) {
+			return e.getCause().toString();
+		}
+	}
+}
@@ -0,0 +1,914 @@
+/*
+ * MazeWorld.java
+ * Originally part of Mazes.java
+ *
+ * @author: Owen Mathay
+ * 
+ */
+
+package pathfinder;
+
+import java.util.*;
+import javalib.impworld.*;
+import java.awt.Color;
+import javalib.worldimages.*;
+
+
+/*
+ * The MazeWorld class, the main class for the Maze generation game, 
+ * extends the World class imported in "Impworld." A MazeWorld instance
+ * is responsible for the visual component of the program, as well as the 
+ * search and solution of the generated maze. If not designed for tests,
+ * the program will randomly generate mazes.
+ */
+class MazeWorld extends World implements IGameConstants {
+	int width;
+	int height;
+	int nodeSize;
+	int edgeThickness;
+	int updatesPerTick;
+	int steps;
+	SearchMeter meter;
+	IMetricsSink metrics;
+
+	/* Variables which handle differentiating algorithms */
+	SearchType search;
+	boolean isInitializing;
+	boolean isSearching;
+	boolean isDrawingPath;
+
+	Board board;
+	IHeuristic heuristic;
+	TieBreak tieBreak;
+	ArrayList<Edge> worklist;
+	int nextEdge;
+	ArrayList<Node> stack;
+	Node[] neighbors;
+	IndexedMinHeap open;
+	ArrayList<Node> closed;
+	BitSet closedSet;
+	IntQueue queue;
+	int[] parentOf;
+	BidirectionalSearch meeting;
+	int[] stepped;
+	boolean userInControl = false;
+	Node playerNode;
+
+	/* Variables which handle drawing only what changed since the last frame */
+	WorldScene scene;
+	int sceneImages;
+	boolean redrawAll;
+	BitSet dirty;
+	BitSet onPath;
+
+	/* Variables which hold the finished maze as pixels, walls drawn once */
+	BitSet wallLayer;
+	ComputedPixelImage canvas;
+	int canvasWidth;
+	int canvasHeight;
+	int pad;
+
+	/*
+	 * Constructor for MazeWorld objects.
+	 * 
+	 * @param width: how many columns of nodes in the maze?
+	 * @param height: how many rows of nodes in the maze?
+	 */
+	MazeWorld(int width, int height) {
+		this.board = new Board(width, height);
+		this.width = width;
+		this.height = height;
+		this.isInitializing = true;
+		this.isSearching = false;
+		this.isDrawingPath = false;
+		this.search = SearchType.INACTIVE;
+		this.worklist = new ArrayList<Edge>(this.board.edges);
+		this.nextEdge = 0;
+		this.stack = new ArrayList<Node>();
+		this.neighbors = new Node[4];
+		this.open = new IndexedMinHeap(width * height);
+		this.closed = new ArrayList<Node>();
+		this.closedSet = new BitSet();
+		this.queue = new IntQueue(width * height);
+		this.parentOf = new int[width * height];
+		this.meeting = null;
+		this.stepped = new int[4];
+		this.meter = null;
+		this.metrics = new JsonLinesSink(System.out);
+		this.heuristic = new ManhattanHeuristic();
+		this.tieBreak = TieBreak.LOWEST_H;
+		this.nodeSize = this.board.cellSize();
+		this.edgeThickness = this.board.edgeThickness();
+		this.updatesPerTick = Math.max(1, width * height / 120);
+		this.playerNode = new Node(0, 0, this.board);
+		this.scene = new WorldScene(WINDOW_W, WINDOW_H);
+		this.sceneImages = 0;
+		this.redrawAll = true;
+		this.dirty = new BitSet();
+		this.onPath = new BitSet();
+		this.wallLayer = null;
+		this.canvas = null;
+		this.pad = this.edgeThickness / 2 + 1;
+		this.canvasWidth = width * this.nodeSize + 2 * this.pad;
+		this.canvasHeight = height * this.nodeSize + 2 * this.pad;
+	}
+
+	/*
+	 * Convenience constructor for testing.
+	 * 
+	 * @param testMaze: extra parameter to pass to Board
+	 */
+	MazeWorld(int width, int height, boolean testMaze) {
+		this.board = new Board(width, height, testMaze);
+		this.width = width;
+		this.height = height;
+		this.isInitializing = true;
+		this.isSearching = false;
+		this.isDrawingPath = false;
+		this.search = SearchType.INACTIVE;
+		this.worklist = new ArrayList<Edge>(this.board.edges);
+		this.nextEdge = 0;
+		this.stack = new ArrayList<Node>();
+		this.neighbors = new Node[4];
+		this.open = new IndexedMinHeap(width * height);
+		this.closed = new ArrayList<Node>();
+		this.closedSet = new BitSet();
+		this.queue = new IntQueue(width * height);
+		this.parentOf = new int[width * height];
+		this.meeting = null;
+		this.stepped = new int[4];
+		this.meter = null;
+		this.metrics = new JsonLinesSink(System.out);
+		this.heuristic = new ManhattanHeuristic();
+		this.tieBreak = TieBreak.LOWEST_H;
+		this.nodeSize = this.board.cellSize();
+		this.edgeThickness = this.board.edgeThickness();
+		this.updatesPerTick = Math.max(1, width * height / 120);
+		this.playerNode = new Node(0, 0, this.board);
+		this.scene = new WorldScene(WINDOW_W, WINDOW_H);
+		this.sceneImages = 0;
+		this.redrawAll = true;
+		this.dirty = new BitSet();
+		this.onPath = new BitSet();
+		this.wallLayer = null;
+		this.canvas = null;
+		this.pad = this.edgeThickness / 2 + 1;
+		this.canvasWidth = width * this.nodeSize + 2 * this.pad;
+		this.canvasHeight = height * this.nodeSize + 2 * this.pad;
+	}
+
+	/*
+	 * Displays and updates the window containing the maze. While the 
+	 * maze is generated, the scene is kept between frames: only cells 
+	 * that changed since the last frame are painted over, and the whole 
+	 * maze is drawn again only after a new maze or search, or once 
+	 * repaints have piled up on the scene. Once the walls are final, 
+	 * changed cells are painted onto a single image of the maze instead.
+	 * 
+	 * @return: WorldScene to be shown on each tick
+	 */
+	@Override
+	public WorldScene makeScene() {
+		if (!this.isInitializing) {
+			return this.makeCanvasScene();
+		}
+		if (this.redrawAll || this.sceneImages > 8 * this.width * this.height) {
+			this.drawAll();
+		} else {
+			for (int cell = this.dirty.nextSetBit(0); cell >= 0; cell = this.dirty.nextSetBit(cell + 1)) {
+				this.drawCell(cell % this.width, cell / this.width);
+			}
+		}
+		this.dirty.clear();
+		return this.scene;
+	}
+
+	/*
+	 * Displays the finished maze as one image. Its walls are drawn into
+	 * the wall layer once per maze, and each frame paints only the cells
+	 * that changed, so the work per frame follows the search, not the
+	 * size of the maze.
+	 * 
+	 * @return: WorldScene holding the maze image and the player icon
+	 */
+	WorldScene makeCanvasScene() {
+		if (this.wallLayer == null) {
+			this.drawWallLayer();
+		}
+		if (this.canvas == null || this.redrawAll) {
+			this.canvas = new ComputedPixelImage(this.canvasWidth, this.canvasHeight);
+			this.redrawAll = false;
+			for (int x = 0; x < this.canvasWidth; x ++) {
+				for (int y = 0; y < this.canvasHeight; y ++) {
+					this.canvas.setPixel(x, y, this.wallLayer.get(y * this.canvasWidth + x) ? Color.BLACK : Color.WHITE);
+				}
+			}
+			for (int j = 0; j < this.width; j ++) {
+				for (int k = 0; k < this.height; k ++) {
+					this.paintCell(j, k);
+				}
+			}
+		} else {
+			for (int cell = this.dirty.nextSetBit(0); cell >= 0; cell = this.dirty.nextSetBit(cell + 1)) {
+				this.paintCell(cell % this.width, cell / this.width);
+			}
+		}
+		this.dirty.clear();
+
+		this.scene = new WorldScene(WINDOW_W, WINDOW_H);
+		this.sceneImages = 0;
+		this.place(this.canvas, this.width * this.nodeSize / 2, this.height * this.nodeSize / 2);
+		this.drawPlayer(this.playerNode.x, this.playerNode.y);
+		return this.scene;
+	}
+
+	/*
+	 * Effect: rasterizes every standing wall of the finished maze into
+	 * the wall layer, one bit per pixel of the maze image.
+	 */
+	void drawWallLayer() {
+		this.wallLayer = new BitSet(this.canvasWidth * this.canvasHeight);
+		for (int j = -1; j < this.width; j ++) {
+			for (int k = -1; k < this.height; k ++) {
+				if (k >= 0 && (j == -1 || j == this.width - 1 || this.board.get(j, k).doesDrawRight(this.board.walls))) {
+					this.markWall(j * this.nodeSize + this.nodeSize, k * this.nodeSize + this.nodeSize / 2, 
+							this.edgeThickness, this.nodeSize);
+				}
+				if (j >= 0 && (k == -1 || k == this.height - 1 || this.board.get(j, k).doesDrawBottom(this.board.walls))) {
+					this.markWall(j * this.nodeSize + this.nodeSize / 2, k * this.nodeSize + this.nodeSize, 
+							this.nodeSize, this.edgeThickness);
+				}
+			}
+		}
+	}
+
+	/*
+	 * Effect: marks the pixels of one wall in the wall layer.
+	 * 
+	 * @param x: center of the wall, in pixels from the left edge of the maze
+	 * @param y: center of the wall, in pixels from the top edge of the maze
+	 * @param w: width of the wall
+	 * @param h: height of the wall
+	 */
+	void markWall(int x, int y, int w, int h) {
+		int left = Math.max(0, x - w / 2 + this.pad);
+		int top = Math.max(0, y - h / 2 + this.pad);
+		int right = Math.min(this.canvasWidth, x - w / 2 + w + this.pad);
+		int bottom = Math.min(this.canvasHeight, y - h / 2 + h + this.pad);
+		for (int py = top; py < bottom; py ++) {
+			this.wallLayer.set(py * this.canvasWidth + left, py * this.canvasWidth + right);
+		}
+	}
+
+	/*
+	 * Effect: paints a single cell onto the maze image, leaving the 
+	 * pixels of its walls as they are.
+	 * 
+	 * @param j: column of the cell
+	 * @param k: row of the cell
+	 */
+	void paintCell(int j, int k) {
+		Color shade = this.shade(j, k);
+		for (int py = k * this.nodeSize + this.pad; py < (k + 1) * this.nodeSize + this.pad; py ++) {
+			int row = py * this.canvasWidth;
+			for (int px = j * this.nodeSize + this.pad; px < (j + 1) * this.nodeSize + this.pad; px ++) {
+				if (!this.wallLayer.get(row + px)) {
+					this.canvas.setPixel(px, py, shade);
+				}
+			}
+		}
+	}
+
+	/* Effect: draws every cell and wall of the maze on a new scene. */
+	void drawAll() {
+		this.scene = new WorldScene(WINDOW_W, WINDOW_H);
+		this.sceneImages = 0;
+		this.redrawAll = false;
+
+		// Cells first, so that no fill covers a wall drawn before it.
+		for (int j = 0; j < this.width; j ++) {
+			for (int k = 0; k < this.height; k ++) {
+				Color shade = this.shade(j, k);
+				if (shade != Color.WHITE) {
+					this.fill(j, k, shade);
+				}
+			}
+		}
+		for (int j = 0; j < this.width; j ++) {
+			for (int k = 0; k < this.height; k ++) {
+				this.drawRight(j, k);
+				this.drawBottom(j, k);
+				if (j == 0) {
+					this.drawRight(j - 1, k);
+				}
+				if (k == 0) {
+					this.drawBottom(j, k - 1);
+				}
+			}
+		}
+		this.drawPlayer(this.playerNode.x, this.playerNode.y);
+	}
+
+	/*
+	 * Effect: paints over a single cell, then draws the four walls around 
+	 * it again, since the fill covers their inner halves.
+	 * 
+	 * @param j: column of the cell
+	 * @param k: row of the cell
+	 */
+	void drawCell(int j, int k) {
+		this.fill(j, k, this.shade(j, k));
+		this.drawRight(j, k);
+		this.drawBottom(j, k);
+		this.drawRight(j - 1, k);
+		this.drawBottom(j, k - 1);
+		this.drawPlayer(j, k);
+	}
+
+	/*
+	 * Determines the color of a cell: the origin and destination, 
+	 * nodes on the path, visited nodes, or empty.
+	 * 
+	 * @param j: column of the cell
+	 * @param k: row of the cell
+	 * @return: color to fill the cell with
+	 */
+	Color shade(int j, int k) {
+		int cell = this.board.index(j, k);
+		if (j == 0 && k == 0) {
+			return Color.GREEN;
+		} else if (j == this.width - 1 && k == this.height - 1) {
+			return Color.RED;
+		} else if (this.onPath.get(cell)) {
+			return new Color(51, 255, 255);
+		} else if (this.board.get(cell).visited || this.closedSet.get(cell)) {
+			return new Color(255, 185, 104);
+		}
+		return Color.WHITE;
+	}
+
+	/*
+	 * Effect: fills a cell with the given color.
+	 * 
+	 * @param j: column of the cell
+	 * @param k: row of the cell
+	 * @param shade: color of the cell
+	 */
+	void fill(int j, int k, Color shade) {
+		this.place(new RectangleImage(this.nodeSize, this.nodeSize, OutlineMode.SOLID, shade),
+				j * this.nodeSize + this.nodeSize / 2, k * this.nodeSize + this.nodeSize / 2);
+	}
+
+	/*
+	 * Effect: draws the wall on the right of a cell, if it stands. 
+	 * Column -1 stands for the left border of the maze.
+	 * 
+	 * @param j: column of the cell
+	 * @param k: row of the cell
+	 */
+	void drawRight(int j, int k) {
+		if (j == -1 || j == this.width - 1 || this.board.get(j, k).doesDrawRight(this.board.walls)) {
+			this.place(new RectangleImage(this.edgeThickness, this.nodeSize, OutlineMode.SOLID, Color.BLACK),
+					j * this.nodeSize + this.nodeSize, k * this.nodeSize + this.nodeSize / 2);
+		}
+	}
+
+	/*
+	 * Effect: draws the wall below a cell, if it stands. 
+	 * Row -1 stands for the top border of the maze.
+	 * 
+	 * @param j: column of the cell
+	 * @param k: row of the cell
+	 */
+	void drawBottom(int j, int k) {
+		if (k == -1 || k == this.height - 1 || this.board.get(j, k).doesDrawBottom(this.board.walls)) {
+			this.place(new RectangleImage(this.nodeSize, this.edgeThickness, OutlineMode.SOLID, Color.BLACK),
+					j * this.nodeSize + this.nodeSize / 2, k * this.nodeSize + this.nodeSize);
+		}
+	}
+
+	/*
+	 * Effect: draws the player icon, if the player is in the given cell.
+	 * 
+	 * @param j: column of the cell
+	 * @param k: row of the cell
+	 */
+	void drawPlayer(int j, int k) {
+		if (this.userInControl && this.playerNode.x == j && this.playerNode.y == k) {
+			this.place(new CircleImage(this.nodeSize / 3, OutlineMode.SOLID, new Color(119, 0, 200)),
+					j * this.nodeSize + this.nodeSize / 2, k * this.nodeSize + this.nodeSize / 2);
+		}
+	}
+
+	/*
+	 * Effect: places an image on the scene, centered in the window.
+	 * 
+	 * @param image: image to place
+	 * @param x: position within the maze, in pixels from its left edge
+	 * @param y: position within the maze, in pixels from its top edge
+	 */
+	void place(WorldImage image, int x, int y) {
+		this.scene.placeImageXY(image, 
+				x + WINDOW_W / 2 - (this.width * this.nodeSize / 2), 
+				y + WINDOW_H / 2 - (this.height * this.nodeSize / 2));
+		this.sceneImages ++;
+	}
+
+	/*
+	 * Effect: marks a node to be drawn again on the next frame.
+	 * 
+	 * @param n: node that changed
+	 */
+	void touch(Node n) {
+		this.dirty.set(this.board.index(n));
+	}
+
+	/*
+	 * Effect: adds a node to the end of the path.
+	 * 
+	 * @param n: node to add
+	 */
+	void pushPath(Node n) {
+		this.stack.add(n);
+		this.onPath.set(this.board.index(n));
+		this.touch(n);
+	}
+
+	/* Effect: removes the node at the end of the path. */
+	void popPath() {
+		Node n = this.stack.remove(this.stack.size() - 1);
+		this.onPath.clear(this.board.index(n));
+		this.touch(n);
+	}
+
+	/*
+	 * Effect: records a node as explored by the search.
+	 * 
+	 * @param n: node explored
+	 */
+	void explore(Node n) {
+		this.closed.add(n);
+		this.closedSet.set(this.board.index(n));
+		this.touch(n);
+	}
+
+	/* 
+	 * Handles maze updates on each tick, counting what a search allocates
+	 * during the tick toward its metrics.
+	 */
+	@Override
+	public void onTick() {
+		SearchMeter running = this.isSearching ? this.meter : null;
+		if (running != null) {
+			running.resume();
+		}
+		this.advance();
+		if (running != null) {
+			running.pause();
+		}
+	}
+
+	/* Makes one tick's updates and distinguishes between run–tasks. */
+	void advance() {
+
+		// Organizing and combining the node sets using Kruskal's method.
+		if(this.isInitializing) {
+			// Walls taken down this tick, removed from the board in one pass.
+			HashSet<Edge> removed = new HashSet<Edge>();
+			int tickStart = this.nextEdge;
+			for (int q = 0; q < this.updatesPerTick; q ++) {
+				while (this.nextEdge < this.worklist.size() 
+						&& this.worklist.get(this.nextEdge).sameCodeBothSides(this.board.sets)) {
+					this.nextEdge ++;
+				}
+				if (this.nextEdge == this.worklist.size()) {
+					this.isInitializing = false;
+					this.redrawAll = true;
+					break;
+				}
+				Edge e = this.worklist.get(this.nextEdge);
+				this.nextEdge ++;
+				removed.add(e);
+				e.mergeSets(this.board.sets);
+				e.removeWall(this.board.walls);
+				e.markCells(this.board, this.dirty);
+			}
+			// Board edges keep the worklist order, so this tick's walls all lie
+			// in the window following the walls kept during earlier ticks.
+			int from = this.board.edges.size() - (this.worklist.size() - tickStart);
+			this.board.edges.subList(from, from + this.nextEdge - tickStart).removeAll(removed);
+		} else if(this.isSearching) {
+
+			// Traversing the maze from origin ––> destination with the selected algorithm.
+			for (int s = 0; s < this.updatesPerTick; s ++) {
+
+				// Distinguishing between different search algorithms.
+				switch(this.search) {
+				case DEPTH_FIRST: 
+
+					// DFS: Depth-First Search (LI-FO)
+					if (this.stack.size() == 0) {
+						this.pushPath(this.board.get(0, 0));
+					}
+
+					if (this.stack.get(this.stack.size() - 1).equals(
+							this.board.get(this.width - 1, this.height - 1))) {
+						this.isSearching = false;
+						this.singleRunSummary(this.stack.size());
+						this.search = SearchType.INACTIVE;
+						return;
+					}
+
+					int count = this.stack.get(
+							this.stack.size() - 1).neighbors(this.board.walls, this.neighbors);
+					if (count == 0) {
+						this.popPath();
+					} else {
+						Node temp = this.neighbors[0];
+						temp.visited = true;
+						this.explore(temp);
+						this.pushPath(temp);
+					}
+					break;
+
+				case BREADTH_FIRST: 
+					// BFS: Breadth-First Search (FI-FO)
+					// -- The queue holds positions; "stack" holds the path for makeScene().
+
+					if (this.isDrawingPath) {
+						// End-case: backtracking completed, path will be shown.
+						if (this.stack.get(this.stack.size() - 1) == this.board.get(0, 0)) {
+							this.isSearching = false;
+							this.isDrawingPath = false;
+							this.search = SearchType.INACTIVE;
+							return;
+						}
+						// Backtracking-in-progress using the parent positions.
+						Node old = this.stack.get(this.stack.size() -1);
+						Node next = this.board.get(this.parentOf[this.board.index(old)]);
+						this.pushPath(next);
+						return;
+
+					} else {
+						// Searching: seeking the destination.
+						int cell = this.queue.remove();
+						Node n = this.board.get(cell);
+						if (n.equals(this.board.get(this.width - 1, this.height - 1))) {
+							this.singleRunSummary(this.pathLength(cell));
+							this.isDrawingPath = true;
+							this.pushPath(n);
+							return;
+						}
+
+						// Adds neighbors to the Queue.
+						int count_bfs = n.neighbors(this.board.walls, this.neighbors);
+						for (int i = 0; i < count_bfs; i ++) {
+							Node neighbor = this.neighbors[i];
+							int next = this.board.index(neighbor);
+							this.parentOf[next] = cell;
+							this.queue.add(next);
+							neighbor.visited = true;
+							this.explore(neighbor);
+						}
+					}
+					break;
+
+				case A_STAR: 
+
+					// A*: A Star Algorithm
+					// Implements a heuristic
+					if (this.isDrawingPath) {
+
+						// End-case: drawing path complete.
+						if (this.stack.get(this.stack.size() - 1) == this.board.get(0, 0)) {
+							this.isSearching = false;
+							this.isDrawingPath = false;
+							this.search = SearchType.INACTIVE;
+							return;
+						}
+
+						// Search completed! Begin drawing.
+						Node old = this.stack.get(this.stack.size() - 1);
+						Node parent = this.board.get(this.parentOf[this.board.index(old)]);
+						this.pushPath(parent);
+						return;
+
+					} else {
+
+						// Searching: determine next node by lowest "F Cost", ties by tie-break.
+						Node current = this.board.get(this.open.pop());
+						this.explore(current);
+
+						// Check for target
+						if (current.equals(this.board.target)) {
+							this.isDrawingPath = true;
+							this.pushPath(current);
+							this.singleRunSummary(this.pathLength(this.board.index(current)));
+							return;
+						}
+
+						// Add valid neighbors to open heap, relaxing their "G Cost"
+						int g = current.g_cost + this.heuristic.stepCost();
+						int count_astar = current.neighbors(this.board.walls, this.neighbors);
+						for (int i = 0; i < count_astar; i ++) {
+							Node node = this.neighbors[i];
+							int cell = this.board.index(node);
+							if (this.closedSet.get(cell)) {
+								continue;
+							}
+							if (!this.open.contains(cell)) {
+								node.updateCosts(g, this.board.target, this.heuristic);
+								this.parentOf[cell] = this.board.index(current);
+								this.open.insert(cell, node.fCost(), this.tieBreak.key(g, node.h_cost));
+							} else if (g < node.g_cost) {
+								node.updateCosts(g, this.board.target, this.heuristic);
+								this.parentOf[cell] = this.board.index(current);
+								this.open.decreaseKey(cell, node.fCost(), this.tieBreak.key(g, node.h_cost));
+							}
+						}
+					}
+					break;
+
+				case BIDIRECTIONAL_BFS: 
+				case BIDIRECTIONAL_A_STAR: 
+
+					// Bidirectional: searching from both ends until they meet in the middle.
+					if (this.isDrawingPath) {
+
+						// End-case: drawing path complete.
+						if (this.stack.get(this.stack.size() - 1) == this.board.get(0, 0)) {
+							this.isSearching = false;
+							this.isDrawingPath = false;
+							this.search = SearchType.INACTIVE;
+							return;
+						}
+
+						// Search completed! Begin drawing.
+						Node old = this.stack.get(this.stack.size() - 1);
+						this.pushPath(this.board.get(this.parentOf[this.board.index(old)]));
+						return;
+
+					} else {
+
+						// Searching: one step from whichever end has the smaller frontier.
+						int count_both = this.meeting.step(this.stepped);
+						if (count_both < 0) {
+							int[] path = this.meeting.result().path;
+							this.singleRunSummary(path.length);
+							if (path.length == 0) {
+								this.isSearching = false;
+								this.search = SearchType.INACTIVE;
+								return;
+							}
+							// The joined path is drawn back from the target like any other.
+							for (int i = 1; i < path.length; i ++) {
+								this.parentOf[path[i]] = path[i - 1];
+							}
+							this.isDrawingPath = true;
+							this.pushPath(this.board.target);
+							return;
+						}
+						for (int i = 0; i < count_both; i ++) {
+							this.explore(this.board.get(this.stepped[i]));
+						}
+					}
+					break;
+
+				case USER:
+					if (this.playerNode.repNode.equals(this.board.target)) {
+						this.userInControl = false;
+						this.isSearching = false;
+						System.out.println("Congratulations, player!");
+						this.closed = new ArrayList<Node>(this.board.explored);
+						this.touch(this.playerNode.repNode);
+						// The walked path: the origin, then one node per move.
+						this.singleRunSummary(this.board.explored.size() + 1);
+						this.search = SearchType.INACTIVE;
+						return;
+					}
+					break;
+
+				case INACTIVE: break;
+				}
+				if (this.meter != null) {
+					this.meter.frontier(this.frontierSize());
+				}
+			}
+		}
+	}
+
+	/*
+	 * Handles key inputs from user to modify run.
+	 * 
+	 * @param ke: the key that was pressed
+	 */
+	public void onKeyEvent(String ke) {
+		// New Maze
+		if (ke.equals("n")) {
+			this.board = new Board(this.width, this.height);
+			this.wallLayer = null;
+			this.canvas = null;
+			System.out.println("Initializing new maze...");
+			System.out.println("Press C for controls");
+			this.isInitializing = true;
+			this.isSearching = false;
+			this.search = SearchType.INACTIVE;
+			this.closed = new ArrayList<Node>();
+			this.closedSet = new BitSet();
+			this.onPath = new BitSet();
+			this.redrawAll = true;
+			this.open = new IndexedMinHeap(this.width * this.height);
+			this.userInControl = false;
+			this.worklist = new ArrayList<Edge>(this.board.edges);
+			this.nextEdge = 0;
+		}
+
+		// All other keyEvents defer to task completion
+		if ((this.isInitializing || this.isSearching) && !this.userInControl) {
+			return;
+		}
+
+		// DFS Setup
+		if (ke.equals("d")) {
+			this.isSearching = true;
+			this.search = SearchType.DEPTH_FIRST;
+			this.board.reset();
+			this.stack = new ArrayList<Node>();
+			this.closed = new ArrayList<Node>();
+			this.closedSet = new BitSet();
+			this.onPath = new BitSet();
+			this.redrawAll = true;
+			this.open = new IndexedMinHeap(this.width * this.height);
+			this.pushPath(this.board.get(0, 0));
+			this.board.get(0, 0).visited = true;
+			this.meter = new SearchMeter();
+		}
+
+		// BFS Setup
+		else if (ke.equals("b")) {
+			this.isSearching = true;
+			this.search = SearchType.BREADTH_FIRST;
+			this.board.reset();
+			this.closed = new ArrayList<Node>();
+			this.closedSet = new BitSet();
+			this.onPath = new BitSet();
+			this.redrawAll = true;
+			this.open = new IndexedMinHeap(this.width * this.height);
+			this.stack = new ArrayList<Node>();
+			this.queue.clear();
+			this.queue.add(0);
+			this.board.get(0, 0).visited = true;
+			this.meter = new SearchMeter();
+		}
+
+		// A* Setup
+		else if (ke.equals("a")) {
+			this.isSearching = true;
+			this.search = SearchType.A_STAR;
+			this.board.reset();
+			this.stack = new ArrayList<Node>();
+			this.closed = new ArrayList<Node>();
+			this.closedSet = new BitSet();
+			this.onPath = new BitSet();
+			this.redrawAll = true;
+			this.open = new IndexedMinHeap(this.width * this.height);
+			Node origin = this.board.get(0, 0);
+			origin.updateCosts(0, this.board.target, this.heuristic);
+			this.open.insert(0, origin.fCost(), this.tieBreak.key(0, origin.h_cost));
+			this.board.get(0, 0).visited = true;
+			this.meter = new SearchMeter();
+		}
+
+		// Bidirectional BFS and A* Setup
+		else if (ke.equals("m") || ke.equals("s")) {
+			this.isSearching = true;
+			this.search = ke.equals("m") 
+					? SearchType.BIDIRECTIONAL_BFS : SearchType.BIDIRECTIONAL_A_STAR;
+			this.board.reset();
+			this.stack = new ArrayList<Node>();
+			this.closed = new ArrayList<Node>();
+			this.closedSet = new BitSet();
+			this.onPath = new BitSet();
+			this.redrawAll = true;
+			this.open = new IndexedMinHeap(this.width * this.height);
+			if (this.meeting == null || this.meeting.maze != this.board) {
+				this.meeting = new BidirectionalSearch(this.board, this.heuristic, this.tieBreak);
+			}
+			this.meeting.begin(0, this.board.index(this.board.target), this.search);
+			if (this.search == SearchType.BIDIRECTIONAL_BFS) {
+				this.explore(this.board.get(0, 0));
+				this.explore(this.board.target);
+			}
+			this.meter = new SearchMeter();
+		}
+
+		// Press C for Controls
+		else if (ke.equals("c")) {
+			System.out.println("\n------CONTROLS------");
+			System.out.println("[n]: Generate new maze");
+			System.out.println("[d]: Select DFS");
+			System.out.println("[b]: Select BFS");
+			System.out.println("[a]: Select A* (A Star)");
+			System.out.println("[m]: Select BFS from both ends");
+			System.out.println("[s]: Select A* from both ends\n");
+			System.out.println("---PLAYER CONTROL---");
+			System.out.println("[u]: Toggle user control on/off");
+			System.out.println("[<][^][>][v]: Move player icon");
+			System.out.println("--------------------");
+		}
+
+		// User Setup
+		else if (ke.equals("u")) {
+			if (this.userInControl) {
+				System.out.println("User forfeit. Thanks for playing!");
+				this.singleRunSummary(0);
+				this.search = SearchType.INACTIVE;
+				this.isSearching = false;
+				this.userInControl = false;
+				this.touch(this.playerNode.repNode);
+			} else {
+				System.out.println("User in Control. Try your best!");
+				this.playerNode = new Node(0, 0, this.board);
+				this.isSearching = true;
+				this.userInControl = true;
+				this.board.reset();
+				this.stack = new ArrayList<Node>();
+				this.closed = new ArrayList<Node>();
+				this.closedSet = new BitSet();
+				this.onPath = new BitSet();
+				this.redrawAll = true;
+				this.open = new IndexedMinHeap(this.width * this.height);
+				this.search = SearchType.USER;
+				this.meter = new SearchMeter();
+			}
+		}
+		// User Controls
+		else if ((ke.equals("up") || ke.equals("down") 
+				|| ke.equals("left") || ke.equals("right")) 
+				&& this.userInControl) {
+			Node rep = this.playerNode.repNode;
+			this.touch(rep);
+			switch(ke) {
+			case "right": 
+				if (this.playerNode.isValidMove(rep.right, this.board)) {
+					this.playerNode.adjustPos(1, 0, this.board);
+				}
+				break;
+			case "down": 
+				if (this.playerNode.isValidMove(rep.bottom, this.board)) {
+					this.playerNode.adjustPos(0, 1, this.board);
+				}
+				break;
+			case "left":
+				if (this.playerNode.isValidMove(rep.left, this.board)) {
+					this.playerNode.adjustPos(-1, 0, this.board);
+				}
+				break;
+			case "up": 
+				if (this.playerNode.isValidMove(rep.top, this.board)) {
+					this.playerNode.adjustPos(0, -1, this.board);
+				}
+			}
+			this.touch(this.playerNode.repNode);
+		}
+	}
+
+	/*
+	 * Records the metrics of the finished search to the metrics sink.
+	 * 
+	 * @param pathLength: nodes on the path found, 0 if none was
+	 */
+	public void singleRunSummary(int pathLength) {
+		if (this.meter == null) {
+			this.meter = new SearchMeter();
+		}
+		this.metrics.record(this.meter.finish(this.search, this.width, this.height, 
+				this.closed.size(), pathLength));
+	}
+
+	/* How many nodes wait to be explored by the running search? */
+	int frontierSize() {
+		switch(this.search) {
+		case DEPTH_FIRST: return this.stack.size();
+		case BREADTH_FIRST: return this.queue.size();
+		case A_STAR: return this.open.size();
+		case BIDIRECTIONAL_BFS: 
+		case BIDIRECTIONAL_A_STAR: return this.meeting.frontier();
+		default: return 0;
+		}
+	}
+
+	/*
+	 * Counts the nodes on the path found, following parents back to the origin.
+	 * 
+	 * @param cell: position the search reached
+	 * @return: nodes from the origin to the given position
+	 */
+	int pathLength(int cell) {
+		int length = 1;
+		for (; cell != 0; cell = this.parentOf[cell]) {
+			length ++;
+		}
+		return length;
+	}
+}
@@ -0,0 +1,369 @@
+/*
+ * ExamplesMazeWorld.java
+ * Originally part of Mazes.java
+ *
+ * @author: Owen Mathay
+ * 
+ */
+
+package pathfinder;
+
+import java.util.*;
+import tester.*;
+import javalib.impworld.*;
+import java.awt.Color;
+import javalib.worldimages.*;
+
+
+/*
+ * The ExamplesMazeWorld class contains examples and tests for all
+ * methods of the MazeWorld class. Tests for the maze itself are
+ * found in the ExamplesMazes class of the core module.
+ * 
+ * All methods but initData have a parameter of Tester t 
+ * to call  test methods from NEU's imported tester.jar.
+ */
+class ExamplesMazeWorld implements IGameConstants {
+
+	MazeWorld maze;
+	MazeWorld testMaze;
+	MazeWorld testMaze1x2;
+
+	/* Initializes example data so each test can occur on uniform data. */
+	void initData() {
+		this.maze = new MazeWorld(50, 50);
+		this.testMaze = new MazeWorld(5, 5, true);
+		this.testMaze1x2 = new MazeWorld(1, 2, true);
+	}
+
+
+	/* Tests the overridden makeScene method */
+	void testMakeScene(Tester t) {
+
+		this.initData();
+		t.checkExpect(this.testMaze1x2.edgeThickness, 31);
+		t.checkExpect(this.testMaze1x2.nodeSize, 375);
+		WorldScene testScene = new WorldScene(IGameConstants.WINDOW_W, IGameConstants.WINDOW_H);
+		testScene.placeImageXY(new RectangleImage(375, 375, OutlineMode.SOLID, Color.GREEN), 500, 187);
+		testScene.placeImageXY(new RectangleImage(375, 375, OutlineMode.SOLID, Color.RED), 500, 562);
+		testScene.placeImageXY(new RectangleImage(31, 375, OutlineMode.SOLID, Color.BLACK), 688, 187);
+		testScene.placeImageXY(new RectangleImage(375, 31, OutlineMode.SOLID, Color.BLACK), 500, 375);	
+		testScene.placeImageXY(new RectangleImage(31, 375, OutlineMode.SOLID, Color.BLACK), 313, 187);
+		testScene.placeImageXY(new RectangleImage(375, 31, OutlineMode.SOLID, Color.BLACK), 500, 0);
+		testScene.placeImageXY(new RectangleImage(31, 375, OutlineMode.SOLID, Color.BLACK), 688, 562);
+		testScene.placeImageXY(new RectangleImage(375, 31, OutlineMode.SOLID, Color.BLACK), 500, 750);
+		testScene.placeImageXY(new RectangleImage(31, 375, OutlineMode.SOLID, Color.BLACK), 313, 562);
+		t.checkExpect(this.testMaze1x2.makeScene(), testScene);
+		t.checkExpect(this.testMaze1x2.sceneImages, 9);
+		t.checkExpect(this.testMaze1x2.redrawAll, false);
+
+		// Without changes, the same scene is shown again as it was.
+		t.checkExpect(this.testMaze1x2.makeScene(), testScene);
+		t.checkExpect(this.testMaze1x2.sceneImages, 9);
+
+		// A changed cell is painted over, along with the walls around it.
+		this.testMaze1x2.touch(this.testMaze1x2.board.get(0, 1));
+		testScene.placeImageXY(new RectangleImage(375, 375, OutlineMode.SOLID, Color.RED), 500, 562);
+		testScene.placeImageXY(new RectangleImage(31, 375, OutlineMode.SOLID, Color.BLACK), 688, 562);
+		testScene.placeImageXY(new RectangleImage(375, 31, OutlineMode.SOLID, Color.BLACK), 500, 750);
+		testScene.placeImageXY(new RectangleImage(31, 375, OutlineMode.SOLID, Color.BLACK), 313, 562);
+		testScene.placeImageXY(new RectangleImage(375, 31, OutlineMode.SOLID, Color.BLACK), 500, 375);
+		t.checkExpect(this.testMaze1x2.makeScene(), testScene);
+		t.checkExpect(this.testMaze1x2.sceneImages, 14);
+		t.checkExpect(this.testMaze1x2.dirty.isEmpty(), true);
+
+	}
+
+	/* Tests the makeScene method once the maze is generated */
+	void testMakeCanvasScene(Tester t) {
+
+		this.initData();
+		while (this.testMaze.isInitializing) {
+			this.testMaze.onTick();
+		}
+		t.checkExpect(this.testMaze.redrawAll, true);
+		t.checkExpect(this.testMaze.wallLayer, null);
+		this.testMaze.makeScene();
+		t.checkExpect(this.testMaze.sceneImages, 1);
+		t.checkExpect(this.testMaze.canvasWidth, 764);
+		t.checkExpect(this.testMaze.canvasHeight, 764);
+		BitSet layer = this.testMaze.wallLayer;
+
+		// Border walls are drawn in black, cells in their colors.
+		t.checkExpect(this.testMaze.canvas.getPixel(7, 82), Color.BLACK);
+		t.checkExpect(this.testMaze.canvas.getPixel(82, 82), Color.GREEN);
+		t.checkExpect(this.testMaze.canvas.getPixel(682, 682), Color.RED);
+		t.checkExpect(this.testMaze.canvas.getPixel(382, 382), Color.WHITE);
+
+		// A search step paints only the cells it explored, on the same walls.
+		this.testMaze.onKeyEvent("b");
+		this.testMaze.makeScene();
+		this.testMaze.onTick();
+		Node explored = this.testMaze.closed.get(0);
+		t.checkExpect(this.testMaze.dirty.get(this.testMaze.board.index(explored)), true);
+		this.testMaze.makeScene();
+		t.checkExpect(this.testMaze.dirty.isEmpty(), true);
+		t.checkExpect(this.testMaze.wallLayer == layer, true);
+		t.checkExpect(this.testMaze.canvas.getPixel(
+				explored.x * 150 + 82, explored.y * 150 + 82), new Color(255, 185, 104));
+
+		// A new maze draws its walls again.
+		this.testMaze.onKeyEvent("n");
+		t.checkExpect(this.testMaze.wallLayer, null);
+		t.checkExpect(this.testMaze.canvas, null);
+	}
+
+	/* Tests the overridden onKeyEvent method */
+	void testOnKeyEvent(Tester t) {
+
+		this.initData();
+		t.checkExpect(this.testMaze1x2.isInitializing, true);
+		t.checkExpect(this.testMaze1x2.isSearching, false);
+		t.checkExpect(this.testMaze1x2.search, SearchType.INACTIVE);
+		t.checkExpect(this.testMaze1x2.isDrawingPath, false);
+
+		// interrupt cancel
+		this.testMaze1x2.onKeyEvent("d");
+		t.checkExpect(this.testMaze1x2.isInitializing, true);
+		this.testMaze1x2.isInitializing = false;
+
+		// depth first
+		this.testMaze1x2.onKeyEvent("d");
+		t.checkExpect(this.testMaze1x2.isInitializing, false);
+		t.checkExpect(this.testMaze1x2.isSearching, true);
+		t.checkExpect(this.testMaze1x2.search, SearchType.DEPTH_FIRST);
+		this.testMaze1x2.isSearching = false;
+
+		// breadth first
+		this.testMaze1x2.onKeyEvent("b");
+		t.checkExpect(this.testMaze1x2.isInitializing, false);
+		t.checkExpect(this.testMaze1x2.isSearching, true);
+		t.checkExpect(this.testMaze1x2.search, SearchType.BREADTH_FIRST);
+		this.testMaze1x2.isSearching = false;
+
+		// a*
+		this.testMaze1x2.onKeyEvent("a");
+		t.checkExpect(this.testMaze1x2.isInitializing, false);
+		t.checkExpect(this.testMaze1x2.isSearching, true);
+		t.checkExpect(this.testMaze1x2.search, SearchType.A_STAR);
+		this.testMaze1x2.isSearching = false;
+
+		// user control toggle
+		this.testMaze1x2.onKeyEvent("u");
+		t.checkExpect(this.testMaze1x2.isInitializing, false);
+		t.checkExpect(this.testMaze1x2.isSearching, true);
+		t.checkExpect(this.testMaze1x2.userInControl, true);
+		t.checkExpect(this.testMaze1x2.search, SearchType.USER);
+		this.testMaze1x2.onKeyEvent("u");
+		t.checkExpect(this.testMaze1x2.isInitializing, false);
+		t.checkExpect(this.testMaze1x2.isSearching, false);
+		t.checkExpect(this.testMaze1x2.userInControl, false);
+		t.checkExpect(this.testMaze1x2.search, SearchType.USER);
+
+		// User inputs
+		this.initData();
+		t.checkExpect(this.testMaze.playerNode.x, 0);
+		t.checkExpect(this.testMaze.playerNode.y, 0);
+		this.testMaze.onKeyEvent("up");
+		t.checkExpect(this.testMaze.playerNode.x, 0);
+		t.checkExpect(this.testMaze.playerNode.y, 0);
+		this.testMaze.onKeyEvent("down");
+		t.checkExpect(this.testMaze.playerNode.x, 0);
+		t.checkExpect(this.testMaze.playerNode.y, 0);
+		this.testMaze.onKeyEvent("left");
+		t.checkExpect(this.testMaze.playerNode.x, 0);
+		t.checkExpect(this.testMaze.playerNode.y, 0);
+		this.testMaze.onKeyEvent("right");
+		t.checkExpect(this.testMaze.playerNode.x, 0);
+		t.checkExpect(this.testMaze.playerNode.y, 0);
+
+		// new board
+		this.testMaze1x2.onKeyEvent("n");
+		t.checkExpect(this.testMaze1x2.isInitializing, true);
+		t.checkExpect(this.testMaze1x2.isSearching, false);
+		t.checkExpect(this.testMaze1x2.search, SearchType.INACTIVE);
+
+	}
+
+	/* Tests the overridden onTick method */
+	void testOnTick(Tester t) {
+
+		this.initData();
+		t.checkExpect(this.testMaze1x2.isInitializing, true);
+		t.checkExpect(this.testMaze1x2.isSearching, false);
+		t.checkExpect(this.testMaze1x2.search, SearchType.INACTIVE);
+		t.checkExpect(this.testMaze1x2.board.edges, new ArrayList<Edge>(Arrays.asList(
+				new Edge(
+						this.testMaze1x2.board.get(0, 0), 
+						this.testMaze1x2.board.get(0, 1), 
+						87981)))); // seeded random edge weight
+		this.testMaze1x2.onTick();
+		t.checkExpect(this.testMaze1x2.board.edges, new ArrayList<Edge>());
+		t.checkExpect(this.testMaze1x2.isInitializing, true);
+		this.testMaze1x2.onTick();
+		t.checkExpect(this.testMaze1x2.isInitializing, false);
+		t.checkExpect(this.testMaze1x2.isSearching, false);
+		this.testMaze1x2.onKeyEvent("d");
+		t.checkExpect(this.testMaze1x2.search, SearchType.DEPTH_FIRST);
+		t.checkExpect(this.testMaze1x2.isInitializing, false);
+		t.checkExpect(this.testMaze1x2.isSearching, true);
+		t.checkExpect(this.testMaze1x2.stack.size(), 1);
+		this.testMaze1x2.onTick();
+		t.checkExpect(this.testMaze1x2.stack.size(), 2);
+		this.testMaze1x2.onTick();
+		t.checkExpect(this.testMaze1x2.stack.size(), 2);
+		t.checkExpect(this.testMaze1x2.isSearching, false);
+		this.testMaze1x2.onKeyEvent("b");
+		t.checkExpect(this.testMaze1x2.search, SearchType.BREADTH_FIRST);
+		t.checkExpect(this.testMaze1x2.isInitializing, false);
+		t.checkExpect(this.testMaze1x2.isSearching, true);
+		t.checkExpect(this.testMaze1x2.isDrawingPath, false);
+		t.checkExpect(this.testMaze1x2.queue.size(), 1);
+		this.testMaze1x2.onTick();
+		t.checkExpect(this.testMaze1x2.queue.size(), 1);
+		t.checkExpect(this.testMaze1x2.parentOf[1], 0);
+		this.testMaze1x2.onTick();
+		t.checkExpect(this.testMaze1x2.queue.isEmpty(), true);
+		t.checkExpect(this.testMaze1x2.stack.size(), 1);
+		this.testMaze1x2.onTick();
+		t.checkExpect(this.testMaze1x2.isDrawingPath, true);
+		t.checkExpect(this.testMaze1x2.stack.size(), 2);
+		this.testMaze1x2.onTick();
+		t.checkExpect(this.testMaze1x2.isSearching, false);
+	}
+
+
+	/* Tests the A* branch of the overridden onTick method */
+	void testOnTickAStar(Tester t) {
+
+		this.initData();
+		this.testMaze1x2.onTick();
+		this.testMaze1x2.onTick();
+		t.checkExpect(this.testMaze1x2.isInitializing, false);
+		this.testMaze1x2.onKeyEvent("a");
+		t.checkExpect(this.testMaze1x2.search, SearchType.A_STAR);
+		t.checkExpect(this.testMaze1x2.open.contains(0), true);
+		t.checkExpect(this.testMaze1x2.board.get(0, 0).g_cost, 0);
+		t.checkExpect(this.testMaze1x2.board.get(0, 0).h_cost, 1);
+		this.testMaze1x2.onTick();
+		t.checkExpect(this.testMaze1x2.closedSet.get(0), true);
+		t.checkExpect(this.testMaze1x2.open.contains(1), true);
+		t.checkExpect(this.testMaze1x2.board.get(0, 1).g_cost, 1);
+		t.checkExpect(this.testMaze1x2.board.get(0, 1).h_cost, 0);
+		t.checkExpect(this.testMaze1x2.closed.size(), 1);
+		this.testMaze1x2.onTick();
+		t.checkExpect(this.testMaze1x2.isDrawingPath, true);
+		t.checkExpect(this.testMaze1x2.open.isEmpty(), true);
+		t.checkExpect(this.testMaze1x2.closed.size(), 2);
+		this.testMaze1x2.onTick();
+		t.checkExpect(this.testMaze1x2.stack, new ArrayList<Node>(Arrays.asList(
+				this.testMaze1x2.board.get(0, 1), this.testMaze1x2.board.get(0, 0))));
+		this.testMaze1x2.onTick();
+		t.checkExpect(this.testMaze1x2.isSearching, false);
+		t.checkExpect(this.testMaze1x2.search, SearchType.INACTIVE);
+
+	}
+
+	/* Tests the bidirectional branches of the overridden onTick method */
+	void testOnTickBidirectional(Tester t) {
+
+		this.initData();
+		while (this.testMaze.isInitializing) {
+			this.testMaze.onTick();
+		}
+		Board b = this.testMaze.board;
+		int[] path = new MazeSolver(b).solve(0, 24, SearchType.BREADTH_FIRST).path;
+		ArrayList<Node> drawn = new ArrayList<Node>();
+		for (int i = path.length - 1; i >= 0; i --) {
+			drawn.add(b.get(path[i]));
+		}
+
+		this.testMaze.onKeyEvent("m");
+		t.checkExpect(this.testMaze.search, SearchType.BIDIRECTIONAL_BFS);
+		t.checkExpect(this.testMaze.isSearching, true);
+		t.checkExpect(this.testMaze.closed.size(), 2);
+		while (this.testMaze.isSearching) {
+			this.testMaze.onTick();
+		}
+		t.checkExpect(this.testMaze.stack, drawn);
+		t.checkExpect(this.testMaze.closed.size(), this.testMaze.meeting.explored);
+		t.checkExpect(this.testMaze.search, SearchType.INACTIVE);
+
+		this.testMaze.onKeyEvent("s");
+		t.checkExpect(this.testMaze.search, SearchType.BIDIRECTIONAL_A_STAR);
+		t.checkExpect(this.testMaze.closed.size(), 0);
+		while (this.testMaze.isSearching) {
+			this.testMaze.onTick();
+		}
+		t.checkExpect(this.testMaze.stack, drawn);
+		t.checkExpect(this.testMaze.closed.size(), this.testMaze.meeting.explored);
+		t.checkExpect(this.testMaze.isDrawingPath, false);
+
+	}
+
+	/* Tests the metrics each finished search records to the sink */
+	void testSearchMetrics(Tester t) {
+
+		this.initData();
+		while (this.testMaze.isInitializing) {
+			this.testMaze.onTick();
+		}
+		HistogramSink runs = new HistogramSink();
+		StringBuilder lines = new StringBuilder();
+		this.testMaze.metrics = runs;
+		int[] path = new MazeSolver(this.testMaze.board).solve(0, 24, SearchType.BREADTH_FIRST).path;
+
+		// Each finished search is recorded once, with the path it found.
+		this.testMaze.onKeyEvent("b");
+		while (this.testMaze.isSearching) {
+			this.testMaze.onTick();
+		}
+		t.checkExpect(runs.count(SearchType.BREADTH_FIRST), 1L);
+		t.checkExpect(runs.frontierPeak.get(SearchType.BREADTH_FIRST).percentile(100) > 0, true);
+
+		this.testMaze.metrics = new JsonLinesSink(lines);
+		this.testMaze.onKeyEvent("a");
+		while (this.testMaze.isSearching) {
+			this.testMaze.onTick();
+		}
+		String line = lines.toString();
+		t.checkExpect(line.startsWith("{\"algorithm\":\"A_STAR\",\"width\":5,\"height\":5,\"expansions\":" 
+				+ this.testMaze.closed.size() + ","), true);
+		t.checkExpect(line.contains(",\"path_length\":" + path.length + ","), true);
+		t.checkExpect(line.endsWith("}\n"), true);
+		t.checkExpect(line.indexOf('\n'), line.length() - 1);
+
+		this.testMaze.metrics = runs;
+		this.testMaze.onKeyEvent("d");
+		while (this.testMaze.isSearching) {
+			this.testMaze.onTick();
+		}
+		t.checkExpect(runs.count(SearchType.DEPTH_FIRST), 1L);
+		t.checkExpect(runs.count(SearchType.A_STAR), 0L);
+
+		// A player who reaches the target walked a path; one who forfeits did not.
+		MazeWorld player = this.testMaze1x2;
+		while (player.isInitializing) {
+			player.onTick();
+		}
+		StringBuilder played = new StringBuilder();
+		player.metrics = new JsonLinesSink(played);
+		player.onKeyEvent("u");
+		player.onKeyEvent("down");
+		player.onTick();
+		t.checkExpect(player.isSearching, false);
+		t.checkExpect(played.toString().contains("\"algorithm\":\"USER\""), true);
+		t.checkExpect(played.toString().contains(",\"path_length\":2,"), true);
+		played.setLength(0);
+		player.onKeyEvent("u");
+		player.onKeyEvent("u");
+		t.checkExpect(played.toString().contains(",\"path_length\":0,"), true);
+
+	}
+
+	/* Tests the bigBang function and the running of the maze. */
+	void testMaze(Tester t) {
+		this.initData();
+		this.maze.bigBang(WINDOW_W, WINDOW_H, 0.0001);
+	}
+}